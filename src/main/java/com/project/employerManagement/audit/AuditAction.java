@@ -0,0 +1,9 @@
+package com.project.employerManagement.audit;
+
+public enum AuditAction {
+
+    ADD,
+    UPDATE,
+    DELETE
+
+}
@@ -0,0 +1,15 @@
+package com.project.employerManagement.audit;
+
+import com.project.employerManagement.model.dto.EmployerDTO;
+
+import java.time.Instant;
+
+// before is null for additions and after is null for deletions
+public record AuditEvent(long sequence, Instant timestamp, String actor, AuditAction action, long employerId,
+                         EmployerDTO before, EmployerDTO after) {
+
+    AuditEvent withSequence(long sequence) {
+        return new AuditEvent(sequence, timestamp, actor, action, employerId, before, after);
+    }
+
+}
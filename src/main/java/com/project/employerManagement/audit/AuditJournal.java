@@ -0,0 +1,375 @@
+package com.project.employerManagement.audit;
+
+import com.project.employerManagement.model.dto.EmployerDTO;
+import com.project.employerManagement.util.Hashing;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+// Append-only journal made of memory-mapped segment files named after their first sequence.
+// Record layout: int payload length | int CRC32 of payload | payload, where the payload starts with
+// employer id, sequence and timestamp so scans can filter without decoding. A zero length or a bad
+// checksum marks the end of the written data, which also drops a record torn by a crash.
+//
+// Each segment keeps a sparse index in memory: for every 64 KiB block the offset of its first
+// record and a 1 KiB bloom filter of the employer ids written in it. The index costs the same per
+// block however many distinct ids the journal holds; a false positive only costs one extra block
+// scan. It is rebuilt by scanning the segments on startup.
+//
+// Only one thread appends; readers and compaction take a snapshot of the segment list under the
+// journal lock and read the mapped buffers outside of it.
+class AuditJournal {
+
+    static final int BLOCK_SIZE = 64 * 1024;
+
+    //About 1% false positives with a thousand distinct ids in a block
+    private static final int FILTER_BITS = 8 * 1024;
+
+    private static final int FILTER_HASHES = 4;
+
+    private static final int HEADER_SIZE = 8;
+
+    private static final String SEGMENT_PREFIX = "audit-";
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path directory;
+
+    private final int segmentSize;
+
+    private final List<Segment> segments = new ArrayList<>();
+
+    private Segment active;
+
+    private long nextSequence = 1;
+
+    AuditJournal(Path directory, int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path path : files.filter(AuditJournal::isSegment).sorted().toList()) {
+                    segments.add(Segment.load(path, map(path, Files.size(path), FileChannel.MapMode.READ_WRITE)));
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not open audit journal in " + directory, ex);
+        }
+        if (!segments.isEmpty()) {
+            active = segments.getLast();
+            nextSequence = segments.stream().mapToLong(s -> s.lastSequence).max().orElse(0) + 1;
+        }
+    }
+
+    AuditEvent append(AuditEvent event) {
+        AuditEvent sequenced = event.withSequence(nextSequence);
+        byte[] payload = encode(sequenced);
+        int recordSize = HEADER_SIZE + payload.length;
+        if (recordSize > segmentSize) {
+            throw new IllegalArgumentException("Audit record of " + recordSize + " bytes exceeds the segment size");
+        }
+        synchronized (this) {
+            if (active == null || active.buffer.capacity() - active.writePosition < recordSize) {
+                roll();
+            }
+            int position = active.writePosition;
+            active.buffer.put(position + HEADER_SIZE, payload);
+            active.buffer.putInt(position + 4, checksum(payload));
+            //The length is written last: it is what makes the record visible to a recovery scan
+            active.buffer.putInt(position, payload.length);
+            active.index(position, payload.length, sequenced.employerId(), sequenced.sequence(),
+                    sequenced.timestamp().toEpochMilli());
+        }
+        nextSequence++;
+        return sequenced;
+    }
+
+    List<AuditEvent> history(long employerId) {
+        List<SegmentView> views = new ArrayList<>();
+        synchronized (this) {
+            for (Segment segment : segments) {
+                BitSet blocks = segment.blocksMatching(employerId);
+                if (!blocks.isEmpty()) {
+                    views.add(new SegmentView(segment.buffer, blocks,
+                            segment.blockStarts.stream().mapToInt(Integer::intValue).toArray(), segment.writePosition));
+                }
+            }
+        }
+        List<AuditEvent> events = new ArrayList<>();
+        for (SegmentView view : views) {
+            for (int block = view.blocks.nextSetBit(0); block >= 0; block = view.blocks.nextSetBit(block + 1)) {
+                int blockEnd = Math.min((block + 1) * BLOCK_SIZE, view.limit);
+                int position = view.blockStarts[block];
+                while (position < blockEnd) {
+                    int length = view.buffer.getInt(position);
+                    if (view.buffer.getLong(position + HEADER_SIZE) == employerId) {
+                        events.add(decode(view.buffer, position + HEADER_SIZE, length));
+                    }
+                    position += HEADER_SIZE + length;
+                }
+            }
+        }
+        return events;
+    }
+
+    // Retention: sealed segments whose records are all older than the cutoff are deleted, and sealed
+    // segments with some expired records are rewritten with only the records still retained.
+    // The active segment is left alone until it has been rolled.
+    void compact(Instant cutoff) {
+        List<Segment> sealed;
+        synchronized (this) {
+            sealed = segments.stream().filter(segment -> segment != active).toList();
+        }
+        long cutoffMillis = cutoff.toEpochMilli();
+        for (Segment segment : sealed) {
+            try {
+                if (segment.maxTimestamp < cutoffMillis) {
+                    synchronized (this) {
+                        segments.remove(segment);
+                    }
+                    Files.deleteIfExists(segment.path);
+                } else if (segment.minTimestamp < cutoffMillis) {
+                    Segment compacted = rewrite(segment, cutoffMillis);
+                    synchronized (this) {
+                        segments.set(segments.indexOf(segment), compacted);
+                    }
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Could not compact audit segment " + segment.path, ex);
+            }
+        }
+    }
+
+    synchronized void force() {
+        if (active != null) {
+            active.buffer.force();
+        }
+    }
+
+    synchronized int segmentCount() {
+        return segments.size();
+    }
+
+    private Segment rewrite(Segment segment, long cutoffMillis) throws IOException {
+        ByteBuffer retained = ByteBuffer.allocate(segment.writePosition);
+        int position = 0;
+        while (position < segment.writePosition) {
+            int recordSize = HEADER_SIZE + segment.buffer.getInt(position);
+            if (segment.buffer.getLong(position + HEADER_SIZE + 16) >= cutoffMillis) {
+                retained.put(segment.buffer.slice(position, recordSize));
+            }
+            position += recordSize;
+        }
+        retained.flip();
+        Path temporary = segment.path.resolveSibling(segment.path.getFileName() + ".compacting");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (retained.hasRemaining()) {
+                channel.write(retained);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, segment.path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return Segment.load(segment.path, map(segment.path, Files.size(segment.path), FileChannel.MapMode.READ_ONLY));
+    }
+
+    private void roll() {
+        if (active != null) {
+            active.buffer.force();
+        }
+        Path path = directory.resolve(SEGMENT_PREFIX + String.format("%020d", nextSequence) + SEGMENT_SUFFIX);
+        try {
+            active = new Segment(path, map(path, segmentSize, FileChannel.MapMode.READ_WRITE));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not create audit segment " + path, ex);
+        }
+        segments.add(active);
+    }
+
+    private static MappedByteBuffer map(Path path, long size, FileChannel.MapMode mode) throws IOException {
+        StandardOpenOption[] options = mode == FileChannel.MapMode.READ_ONLY
+                ? new StandardOpenOption[]{StandardOpenOption.READ}
+                : new StandardOpenOption[]{StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE};
+        //The mapping stays valid after the channel is closed
+        try (FileChannel channel = FileChannel.open(path, options)) {
+            return channel.map(mode, 0, size);
+        }
+    }
+
+    private static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private static int checksum(byte[] payload) {
+        return checksum(ByteBuffer.wrap(payload));
+    }
+
+    private static int checksum(ByteBuffer payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private static byte[] encode(AuditEvent event) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(event.employerId());
+            out.writeLong(event.sequence());
+            out.writeLong(event.timestamp().toEpochMilli());
+            out.writeByte(event.action().ordinal());
+            writeNullable(out, event.actor());
+            writeSnapshot(out, event.before());
+            writeSnapshot(out, event.after());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static AuditEvent decode(ByteBuffer buffer, int offset, int length) {
+        byte[] payload = new byte[length];
+        buffer.get(offset, payload);
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            long employerId = in.readLong();
+            long sequence = in.readLong();
+            Instant timestamp = Instant.ofEpochMilli(in.readLong());
+            AuditAction action = AuditAction.values()[in.readByte()];
+            String actor = readNullable(in);
+            return new AuditEvent(sequence, timestamp, actor, action, employerId, readSnapshot(in), readSnapshot(in));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void writeSnapshot(DataOutputStream out, EmployerDTO employer) throws IOException {
+        out.writeBoolean(employer != null);
+        if (employer != null) {
+            out.writeLong(employer.getId());
+            writeNullable(out, employer.getName());
+            writeNullable(out, employer.getEmail());
+            writeNullable(out, employer.getPosition());
+        }
+    }
+
+    private static EmployerDTO readSnapshot(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return EmployerDTO.builder()
+                .id(in.readLong())
+                .name(readNullable(in))
+                .email(readNullable(in))
+                .position(readNullable(in))
+                .build();
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private record SegmentView(ByteBuffer buffer, BitSet blocks, int[] blockStarts, int limit) {
+    }
+
+    private static final class Segment {
+
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        private final List<Integer> blockStarts = new ArrayList<>();
+        private final List<long[]> blockFilters = new ArrayList<>();
+        private int writePosition;
+        private long lastSequence;
+        private long minTimestamp = Long.MAX_VALUE;
+        private long maxTimestamp = Long.MIN_VALUE;
+
+        private Segment(Path path, MappedByteBuffer buffer) {
+            this.path = path;
+            this.buffer = buffer;
+        }
+
+        private static Segment load(Path path, MappedByteBuffer buffer) {
+            Segment segment = new Segment(path, buffer);
+            int position = 0;
+            while (position + HEADER_SIZE <= buffer.capacity()) {
+                int length = buffer.getInt(position);
+                if (length <= 0 || position + HEADER_SIZE + length > buffer.capacity()
+                        || buffer.getInt(position + 4) != checksum(buffer.slice(position + HEADER_SIZE, length))) {
+                    break;
+                }
+                segment.index(position, length, buffer.getLong(position + HEADER_SIZE),
+                        buffer.getLong(position + HEADER_SIZE + 8), buffer.getLong(position + HEADER_SIZE + 16));
+                position = segment.writePosition;
+            }
+            return segment;
+        }
+
+        private void index(int position, int length, long employerId, long sequence, long timestamp) {
+            int block = position / BLOCK_SIZE;
+            while (blockStarts.size() <= block) {
+                blockStarts.add(position);
+                blockFilters.add(new long[FILTER_BITS / Long.SIZE]);
+            }
+            long[] filter = blockFilters.get(block);
+            long hash = Hashing.mix(employerId);
+            for (int i = 0; i < FILTER_HASHES; i++) {
+                int bit = filterBit(hash, i);
+                filter[bit >>> 6] |= 1L << bit;
+            }
+            writePosition = position + HEADER_SIZE + length;
+            lastSequence = sequence;
+            minTimestamp = Math.min(minTimestamp, timestamp);
+            maxTimestamp = Math.max(maxTimestamp, timestamp);
+        }
+
+        private BitSet blocksMatching(long employerId) {
+            BitSet blocks = new BitSet();
+            long hash = Hashing.mix(employerId);
+            for (int block = 0; block < blockFilters.size(); block++) {
+                long[] filter = blockFilters.get(block);
+                boolean match = true;
+                for (int i = 0; i < FILTER_HASHES && match; i++) {
+                    int bit = filterBit(hash, i);
+                    match = (filter[bit >>> 6] & 1L << bit) != 0;
+                }
+                if (match) {
+                    blocks.set(block);
+                }
+            }
+            return blocks;
+        }
+
+        //Double hashing on the two halves of one well mixed 64-bit hash
+        private static int filterBit(long hash, int i) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32) | 1;
+            return (h1 + i * h2) & (FILTER_BITS - 1);
+        }
+
+    }
+
+}
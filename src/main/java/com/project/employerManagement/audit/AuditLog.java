@@ -0,0 +1,145 @@
+package com.project.employerManagement.audit;
+
+import com.project.employerManagement.config.AuditProperties;
+import com.project.employerManagement.model.dto.EmployerDTO;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// Request threads only publish events into a lock-free ring; a single background writer drains it
+// into the journal, so auditing adds no I/O to the request. Events become visible to history()
+// once the writer has appended them.
+@Slf4j
+@Component
+public class AuditLog implements InitializingBean, DisposableBean {
+
+    public static final String ACTOR_HEADER = "X-Actor";
+
+    private static final String ANONYMOUS_ACTOR = "anonymous";
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AuditProperties properties;
+
+    private AuditRingBuffer<AuditEvent> ring;
+
+    private AuditJournal journal;
+
+    private Thread writer;
+
+    private ScheduledExecutorService compactor;
+
+    private volatile boolean running;
+
+    private volatile long written;
+
+    public AuditLog(AuditProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        ring = new AuditRingBuffer<>(properties.getRingCapacity());
+        journal = new AuditJournal(Path.of(properties.getDirectory()), (int) properties.getSegmentSize().toBytes());
+        running = true;
+        writer = Thread.ofPlatform().name("audit-writer").daemon().start(this::drain);
+        compactor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("audit-compactor").daemon().factory());
+        long interval = properties.getCompactionInterval().toMillis();
+        compactor.scheduleWithFixedDelay(this::compact, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public void record(AuditAction action, long employerId, EmployerDTO before, EmployerDTO after) {
+        if (!running) {
+            return;
+        }
+        AuditEvent event = new AuditEvent(0, Instant.now(), currentActor(), action, employerId, before, after);
+        //Back-pressure instead of dropping: a full ring means the writer is behind
+        while (!ring.offer(event)) {
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+    }
+
+    public List<AuditEvent> history(long employerId) {
+        if (journal == null) {
+            return List.of();
+        }
+        return journal.history(employerId);
+    }
+
+    // Waits until every event recorded before this call has been written to the journal
+    public void flush() {
+        if (!running) {
+            return;
+        }
+        long target = ring.producedCount();
+        while (written < target && writer.isAlive()) {
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+    }
+
+    public void compact() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.compact(Instant.now().minus(properties.getRetention()));
+        } catch (RuntimeException ex) {
+            log.error("Audit journal compaction failed", ex);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        flush();
+        running = false;
+        compactor.shutdownNow();
+        writer.join();
+        journal.force();
+    }
+
+    private void drain() {
+        while (running || written < ring.producedCount()) {
+            AuditEvent event = ring.poll();
+            if (event == null) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            try {
+                journal.append(event);
+            } catch (RuntimeException ex) {
+                log.error("Could not write audit event {} for employer {}", event.action(), event.employerId(), ex);
+            }
+            written = written + 1;
+        }
+    }
+
+    private static String currentActor() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            String actor = request.getHeader(ACTOR_HEADER);
+            if (actor != null && !actor.isBlank()) {
+                return actor;
+            }
+        }
+        return ANONYMOUS_ACTOR;
+    }
+
+}
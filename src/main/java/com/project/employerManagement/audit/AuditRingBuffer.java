@@ -0,0 +1,69 @@
+package com.project.employerManagement.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Bounded lock-free multi-producer / single-consumer ring (Vyukov style): every slot carries a
+// sequence telling whether it is free for the producer of a lap or filled for the consumer.
+class AuditRingBuffer<T> {
+
+    private final Object[] slots;
+    private final AtomicLongArray slotSequences;
+    private final int mask;
+    private final AtomicLong enqueuePosition = new AtomicLong();
+    private volatile long dequeuePosition;
+
+    AuditRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring capacity must be a power of two");
+        }
+        this.slots = new Object[capacity];
+        this.slotSequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slotSequences.set(i, i);
+        }
+    }
+
+    //Returns false when the ring is full
+    boolean offer(T element) {
+        while (true) {
+            long position = enqueuePosition.get();
+            int index = (int) (position & mask);
+            long difference = slotSequences.get(index) - position;
+            if (difference == 0) {
+                if (enqueuePosition.compareAndSet(position, position + 1)) {
+                    slots[index] = element;
+                    slotSequences.lazySet(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+        }
+    }
+
+    //Must only be called from the single consumer thread
+    @SuppressWarnings("unchecked")
+    T poll() {
+        long position = dequeuePosition;
+        int index = (int) (position & mask);
+        if (slotSequences.get(index) != position + 1) {
+            return null;
+        }
+        T element = (T) slots[index];
+        slots[index] = null;
+        slotSequences.lazySet(index, position + mask + 1);
+        dequeuePosition = position + 1;
+        return element;
+    }
+
+    long producedCount() {
+        return enqueuePosition.get();
+    }
+
+    long consumedCount() {
+        return dequeuePosition;
+    }
+
+}
@@ -0,0 +1,173 @@
+package com.project.employerManagement.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.project.employerManagement.config.EmployerCacheProperties;
+import com.project.employerManagement.model.dto.EmployerDTO;
+import com.project.employerManagement.model.entity.Employer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Keeps the JSON encoding of each employer, so reading an unchanged employer costs neither the DTO
+// mapping nor the Jackson encoding. Employers carry no version column: an entry is versioned by the
+// values it was encoded from and is only served while the employer read from storage still has
+// them. That also covers changes made behind the service's back, like snapshot imports or other
+// nodes of a sharded deployment. The service evicts entries on update and delete on top of that.
+//
+// When full, the least recently used tenth of the entries is dropped in one pass. Reads only stamp
+// the entry they hit, so they stay lock-free; the sort over all entries is paid once every
+// maxEntries / 10 insertions.
+@Component
+public class EmployerJsonCache {
+
+    private final ObjectWriter writer;
+
+    private final EmployerCacheProperties properties;
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    private final ReentrantLock eviction = new ReentrantLock();
+
+    private static final class Entry {
+
+        private final String name;
+        private final String email;
+        private final String position;
+        private final byte[] json;
+        private volatile long lastAccess = System.nanoTime();
+        //Increments lost to concurrent hits only blur the ranking a little
+        private volatile int hits = 1;
+
+        private Entry(String name, String email, String position, byte[] json) {
+            this.name = name;
+            this.email = email;
+            this.position = position;
+            this.json = json;
+        }
+
+        boolean encodes(Employer employer) {
+            return Objects.equals(name, employer.getName())
+                    && Objects.equals(email, employer.getEmail())
+                    && Objects.equals(position, employer.getPosition());
+        }
+
+    }
+
+    private record Candidate(long id, int hits, long lastAccess) {
+    }
+
+    public EmployerJsonCache(ObjectMapper objectMapper, EmployerCacheProperties properties) {
+        this.writer = objectMapper.writerFor(EmployerDTO.class);
+        this.properties = properties;
+    }
+
+    // The returned array is shared, callers must not modify it
+    public byte[] json(Employer employer) {
+        Entry entry = entries.get(employer.getId());
+        if (entry != null && entry.encodes(employer)) {
+            entry.lastAccess = System.nanoTime();
+            entry.hits++;
+            return entry.json;
+        }
+        byte[] json = encode(employer);
+        if (properties.isEnabled()) {
+            if (entry == null && entries.size() >= properties.getMaxEntries()) {
+                evictLeastRecentlyUsed();
+            }
+            entries.put(employer.getId(), new Entry(employer.getName(), employer.getEmail(), employer.getPosition(), json));
+        }
+        return json;
+    }
+
+    // Same bytes Jackson would write for the list of DTOs, assembled from the cached fragments
+    public byte[] jsonArray(List<Employer> employers) {
+        byte[][] fragments = new byte[employers.size()][];
+        int length = employers.isEmpty() ? 2 : employers.size() + 1;
+        for (int i = 0; i < fragments.length; i++) {
+            fragments[i] = json(employers.get(i));
+            length += fragments[i].length;
+        }
+        byte[] json = new byte[length];
+        int position = 0;
+        json[position++] = '[';
+        for (int i = 0; i < fragments.length; i++) {
+            if (i > 0) {
+                json[position++] = ',';
+            }
+            System.arraycopy(fragments[i], 0, json, position, fragments[i].length);
+            position += fragments[i].length;
+        }
+        json[position] = ']';
+        return json;
+    }
+
+    public void evict(long id) {
+        entries.remove(id);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // Forgets the hits counted so far, so reads made before taking traffic do not rank as hot
+    public void resetHits() {
+        entries.values().forEach(entry -> entry.hits = 0);
+    }
+
+    // Ids of the most read employers still cached, most hits first and the most recent read breaking ties
+    public long[] hottestIds(int limit) {
+        return candidates().stream()
+                .sorted(Comparator.comparingInt(Candidate::hits).thenComparingLong(Candidate::lastAccess).reversed())
+                .limit(limit)
+                .mapToLong(Candidate::id)
+                .toArray();
+    }
+
+    private byte[] encode(Employer employer) {
+        try {
+            return writer.writeValueAsBytes(EmployerDTO.builder()
+                    .id(employer.getId())
+                    .name(employer.getName())
+                    .email(employer.getEmail())
+                    .position(employer.getPosition())
+                    .build());
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not encode employer " + employer.getId(), ex);
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        //Another thread is already making room, going slightly over the limit meanwhile is fine
+        if (!eviction.tryLock()) {
+            return;
+        }
+        try {
+            int excess = entries.size() - properties.getMaxEntries() + Math.max(1, properties.getMaxEntries() / 10);
+            if (excess <= 0) {
+                return;
+            }
+            List<Candidate> candidates = candidates();
+            candidates.sort(Comparator.comparingLong(Candidate::lastAccess));
+            for (int i = 0; i < Math.min(excess, candidates.size()); i++) {
+                entries.remove(candidates.get(i).id());
+            }
+        } finally {
+            eviction.unlock();
+        }
+    }
+
+    //Stamps are copied first, sorting on fields other threads keep updating would break the sort
+    private List<Candidate> candidates() {
+        List<Candidate> candidates = new ArrayList<>(entries.size());
+        entries.forEach((id, entry) -> candidates.add(new Candidate(id, entry.hits, entry.lastAccess)));
+        return candidates;
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.project.employerManagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employer.audit")
+public class AuditProperties {
+
+    private boolean enabled = true;
+
+    private String directory = "audit";
+
+    private DataSize segmentSize = DataSize.ofMegabytes(16);
+
+    //Must be a power of two
+    private int ringCapacity = 8192;
+
+    private Duration retention = Duration.ofDays(365);
+
+    private Duration compactionInterval = Duration.ofHours(1);
+
+}
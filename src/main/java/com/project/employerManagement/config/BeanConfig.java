@@ -1,10 +1,12 @@
 package com.project.employerManagement.config;
 
 import org.modelmapper.ModelMapper;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@EnableConfigurationProperties({AuditProperties.class, SnapshotProperties.class, EmployerCacheProperties.class})
 public class BeanConfig {
 
     @Bean
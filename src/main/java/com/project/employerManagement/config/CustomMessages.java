@@ -6,11 +6,23 @@ public class CustomMessages {
     public static final String NAME_NOT_EMPTY = "Name cannot be empty";
     public static final String EMAIL_NOT_EMPTY = "Email cannot be empty";
     public static final String POSITION_NOT_EMPTY = "Position cannot be empty";
+    public static final String BATCH_OPERATIONS_NOT_EMPTY = "Operations cannot be empty";
+    public static final String BATCH_TOO_LARGE = "A batch cannot hold more than 1000 operations";
+    public static final String BATCH_OPERATION_NOT_NULL = "Operation cannot be null";
+    public static final String BATCH_OPERATION_TYPE_NOT_NULL = "Operation type cannot be null";
 
     //Exception messages
     public static String employerAlreadyExists(String email) {
         return "Employer with email " + email + " already exists";
     }
     public static final String EMPLOYER_NOT_FOUND = "Employer not found";
+    public static final String SNAPSHOT_NOT_FOUND = "Snapshot not found";
+    public static final String INVALID_SNAPSHOT_NAME = "Invalid snapshot name";
+    public static String corruptedSnapshot(String detail) {
+        return "Corrupted snapshot: " + detail;
+    }
+    public static final String BATCH_EMPLOYER_REQUIRED = "Employer is required";
+    public static final String BATCH_ID_REQUIRED = "Employer id is required";
+    public static final String BATCH_CONFLICT = "The batch conflicts with a concurrent change, nothing was applied";
 
 }
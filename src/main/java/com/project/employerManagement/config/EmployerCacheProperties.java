@@ -0,0 +1,16 @@
+package com.project.employerManagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employer.cache")
+public class EmployerCacheProperties {
+
+    private boolean enabled = true;
+
+    private int maxEntries = 100_000;
+
+}
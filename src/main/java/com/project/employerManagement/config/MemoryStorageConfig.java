@@ -0,0 +1,24 @@
+package com.project.employerManagement.config;
+
+import com.project.employerManagement.repository.memory.InMemoryEmployerRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.nio.file.Path;
+
+@Configuration
+@ConditionalOnProperty(name = "employer.storage.mode", havingValue = "memory")
+@EnableConfigurationProperties(MemoryStorageProperties.class)
+public class MemoryStorageConfig {
+
+    @Bean
+    @Primary
+    public InMemoryEmployerRepository inMemoryEmployerRepository(MemoryStorageProperties properties) {
+        return new InMemoryEmployerRepository(Path.of(properties.getDirectory()),
+                properties.getSnapshotInterval(), properties.isSyncWrites());
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.project.employerManagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employer.memory")
+public class MemoryStorageProperties {
+
+    private String directory = "data";
+
+    //Zero disables periodic snapshots, one is still taken on shutdown
+    private Duration snapshotInterval = Duration.ofMinutes(5);
+
+    //Force every write-ahead log entry to disk before the write returns
+    private boolean syncWrites;
+
+}
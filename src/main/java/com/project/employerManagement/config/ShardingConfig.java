@@ -0,0 +1,73 @@
+package com.project.employerManagement.config;
+
+import com.project.employerManagement.repository.sharded.EmployerIdGenerator;
+import com.project.employerManagement.repository.sharded.ShardRebalanceRunner;
+import com.project.employerManagement.repository.sharded.ShardedEmployerRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Configuration
+@ConditionalOnProperty(name = "employer.storage.mode", havingValue = "sharded")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig implements DisposableBean {
+
+    //Shards are keyed by url so the current and the rebalance target layouts share the same pools
+    private final Map<String, DataSource> dataSourcesByUrl = new ConcurrentHashMap<>();
+
+    @Bean
+    @Primary
+    public ShardedEmployerRepository shardedEmployerRepository(ShardingProperties properties) {
+        if (properties.getShards().isEmpty()) {
+            throw new IllegalStateException("employer.sharding.shards must declare at least one shard");
+        }
+        return new ShardedEmployerRepository(dataSourcesFor(properties.getShards()),
+                new EmployerIdGenerator(properties.getNodeId()));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "employer.sharding.rebalance.enabled", havingValue = "true")
+    public ShardRebalanceRunner shardRebalanceRunner(ShardingProperties properties, ConfigurableApplicationContext context) {
+        //Rows move between shards while it runs, requests routed by either layout would miss them
+        if (context instanceof WebApplicationContext) {
+            throw new IllegalStateException("Rebalancing must run without the web server, start it with the rebalance profile");
+        }
+        if (properties.getRebalance().getTarget().isEmpty()) {
+            throw new IllegalStateException("employer.sharding.rebalance.target must declare at least one shard");
+        }
+        return new ShardRebalanceRunner(dataSourcesFor(properties.getShards()),
+                dataSourcesFor(properties.getRebalance().getTarget()), context);
+    }
+
+    private List<DataSource> dataSourcesFor(List<ShardingProperties.Shard> shards) {
+        return shards.stream()
+                .map(shard -> dataSourcesByUrl.computeIfAbsent(shard.getUrl(), url -> DataSourceBuilder.create()
+                        .url(url)
+                        .username(shard.getUsername())
+                        .password(shard.getPassword())
+                        .driverClassName(shard.getDriverClassName())
+                        .build()))
+                .toList();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource dataSource : dataSourcesByUrl.values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.project.employerManagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employer.sharding")
+public class ShardingProperties {
+
+    //Distinguishes id generators when several application instances write to the same shards (0-31)
+    private int nodeId;
+
+    private List<Shard> shards = new ArrayList<>();
+
+    private Rebalance rebalance = new Rebalance();
+
+    @Getter
+    @Setter
+    public static class Shard {
+
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Rebalance {
+
+        private boolean enabled;
+        private List<Shard> target = new ArrayList<>();
+
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.project.employerManagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employer.snapshot")
+public class SnapshotProperties {
+
+    private String directory = "snapshots";
+
+    private int importThreads = Runtime.getRuntime().availableProcessors();
+
+    private int importBatchSize = 1000;
+
+}
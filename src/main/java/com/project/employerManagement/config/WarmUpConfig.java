@@ -0,0 +1,25 @@
+package com.project.employerManagement.config;
+
+import com.project.employerManagement.warmup.RequestLatencyFilter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(WarmUpProperties.class)
+public class WarmUpConfig {
+
+    @Bean
+    public RequestLatencyFilter requestLatencyFilter(WarmUpProperties properties) {
+        return new RequestLatencyFilter(properties.getLatencySamples());
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestLatencyFilter> requestLatencyFilterRegistration(RequestLatencyFilter filter) {
+        FilterRegistrationBean<RequestLatencyFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+}
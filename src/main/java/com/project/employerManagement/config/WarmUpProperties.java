@@ -0,0 +1,26 @@
+package com.project.employerManagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employer.warmup")
+public class WarmUpProperties {
+
+    private boolean enabled = true;
+
+    private int iterations = 10_000;
+
+    private int readIterations = 200;
+
+    private int poolConnections = 10;
+
+    private int preloadEmployers = 0;
+
+    private String hotEmployersFile = "warmup/hot-employers.txt";
+
+    private int latencySamples = 1000;
+
+}
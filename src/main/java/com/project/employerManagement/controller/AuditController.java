@@ -0,0 +1,41 @@
+package com.project.employerManagement.controller;
+
+import com.project.employerManagement.audit.AuditEvent;
+import com.project.employerManagement.audit.AuditLog;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(
+        name = "Audit REST APIs for employers",
+        description = "Audit REST APIs - Read the change history of employers"
+)
+@RestController
+@RequestMapping("/api/audit")
+@RequiredArgsConstructor
+public class AuditController {
+
+    private final AuditLog auditLog;
+
+    @Operation(
+            summary = "Get employer history",
+            description = "Get every recorded add, update and delete of an employer, oldest first"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Found employer history successfully"
+    )
+    @GetMapping("/employers/{id}")
+    public ResponseEntity<List<AuditEvent>> getEmployerHistory(@PathVariable Long id) {
+        return ResponseEntity.ok(auditLog.history(id));
+    }
+
+}
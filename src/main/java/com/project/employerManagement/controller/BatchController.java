@@ -0,0 +1,46 @@
+package com.project.employerManagement.controller;
+
+import com.project.employerManagement.model.dto.BatchRequestDTO;
+import com.project.employerManagement.model.dto.BatchResultDTO;
+import com.project.employerManagement.service.BatchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(
+        name = "Batch REST APIs for employers",
+        description = "Batch REST APIs - Apply many creates, updates and deletes in one request"
+)
+@RestController
+@ConditionalOnProperty(name = "employer.storage.mode", havingValue = "jpa", matchIfMissing = true)
+@RequestMapping("/api/employers/batch")
+@RequiredArgsConstructor
+public class BatchController {
+
+    private final BatchService batchService;
+
+    @Operation(
+            summary = "Apply batch",
+            description = "Apply an ordered list of operations in one transaction, either all or nothing or every one that succeeds"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Applied batch, the results tell which operations succeeded"
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Nothing was applied, the results tell which operations failed"
+    )
+    @PostMapping
+    public ResponseEntity<BatchResultDTO> executeBatch(@RequestBody @Valid BatchRequestDTO request) {
+        BatchResultDTO result = batchService.executeBatch(request);
+        return ResponseEntity.status(result.isCommitted() ? HttpStatus.OK : HttpStatus.BAD_REQUEST).body(result);
+    }
+
+}
@@ -4,16 +4,20 @@ package com.project.employerManagement.controller;
 import com.project.employerManagement.model.dto.EmployerDTO;
 import com.project.employerManagement.service.EmployerService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @Tag(
         name = "CRUD REST APIs for employers",
         description = "CRUD REST APIs - Create / Read / Update / Delete employers"
@@ -23,6 +27,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class EmployerController {
 
+    //Largest page a single request may ask for, the whole page is rendered in memory
+    static final int MAX_PAGE_SIZE = 100;
+
     private final EmployerService employerService;
 
     @Operation(
@@ -73,12 +80,13 @@ public class EmployerController {
     )
     @ApiResponse(
             responseCode = "200",
-            description = "Found employer by id successfully"
+            description = "Found employer by id successfully",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = EmployerDTO.class))
     )
     @GetMapping("/{id}")
-    public ResponseEntity<EmployerDTO> getEmployerById(@PathVariable Long id) {
-        EmployerDTO employer = employerService.getEmployerById(id);
-        return ResponseEntity.ok(employer);
+    public ResponseEntity<byte[]> getEmployerById(@PathVariable Long id) {
+        byte[] employer = employerService.getEmployerJsonById(id);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(employer);
     }
 
     @Operation(
@@ -87,12 +95,33 @@ public class EmployerController {
     )
     @ApiResponse(
             responseCode = "200",
-            description = "Found all employers successfully"
+            description = "Found all employers successfully",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = EmployerDTO.class)))
     )
     @GetMapping("/")
-    public ResponseEntity<List<EmployerDTO>> getAllEmployers() {
-        List<EmployerDTO> employers = employerService.getAllEmployers();
-        return ResponseEntity.ok(employers);
+    public ResponseEntity<byte[]> getAllEmployers() {
+        byte[] employers = employerService.getAllEmployersJson();
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(employers);
+    }
+
+    @Operation(
+            summary = "Get employers page",
+            description = "Get a page of employers ordered by id from the database"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Found employers page successfully",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = EmployerDTO.class)))
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Negative page or size outside 1.." + MAX_PAGE_SIZE
+    )
+    @GetMapping("/page")
+    public ResponseEntity<byte[]> getEmployersPage(@RequestParam(defaultValue = "0") @Min(0) int page,
+                                                   @RequestParam(defaultValue = "20") @Min(1) @Max(MAX_PAGE_SIZE) int size) {
+        byte[] employers = employerService.getEmployersPageJson(page, size);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(employers);
     }
 
 }
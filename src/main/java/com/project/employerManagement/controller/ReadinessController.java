@@ -0,0 +1,59 @@
+package com.project.employerManagement.controller;
+
+import com.project.employerManagement.model.dto.ReadinessDTO;
+import com.project.employerManagement.warmup.RequestLatencyFilter;
+import com.project.employerManagement.warmup.WarmUp;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+@Tag(
+        name = "Readiness REST APIs",
+        description = "Readiness REST APIs - Tell load balancers when the warmed-up application can take traffic"
+)
+@RestController
+@RequiredArgsConstructor
+public class ReadinessController {
+
+    private final ApplicationAvailability applicationAvailability;
+
+    private final WarmUp warmUp;
+
+    private final RequestLatencyFilter requestLatencyFilter;
+
+    @Operation(
+            summary = "Get readiness",
+            description = "Get whether warm-up is done, how long it took and the p99 latency of the requests served since"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Ready to take traffic"
+    )
+    @ApiResponse(
+            responseCode = "503",
+            description = "Still starting up or warming up"
+    )
+    @GetMapping(RequestLatencyFilter.READINESS_PATH)
+    public ResponseEntity<ReadinessDTO> getReadiness() {
+        boolean ready = applicationAvailability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC;
+        Duration warmUpDuration = warmUp.getDuration();
+        ReadinessDTO readiness = ReadinessDTO.builder()
+                .ready(ready)
+                .warmUpMillis(warmUpDuration == null ? null : warmUpDuration.toMillis())
+                .preloadedEmployers(warmUp.getPreloadedEmployers())
+                .requestsMeasured(requestLatencyFilter.getRequestsMeasured())
+                .p99Millis(RequestLatencyFilter.toMillis(requestLatencyFilter.percentile(0.99)))
+                .build();
+        return ResponseEntity.status(ready ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(readiness);
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.project.employerManagement.controller;
+
+import com.project.employerManagement.model.dto.SnapshotDTO;
+import com.project.employerManagement.service.SnapshotService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(
+        name = "Snapshot REST APIs for employers",
+        description = "Snapshot REST APIs - Export / Import the employer table as a binary snapshot"
+)
+@RestController
+@ConditionalOnProperty(name = "employer.storage.mode", havingValue = "jpa", matchIfMissing = true)
+@RequestMapping("/api/snapshots")
+@RequiredArgsConstructor
+public class SnapshotController {
+
+    private final SnapshotService snapshotService;
+
+    @Operation(
+            summary = "Export snapshot",
+            description = "Export every employer into a new snapshot file in the snapshot directory"
+    )
+    @ApiResponse(
+            responseCode = "201",
+            description = "Exported snapshot successfully"
+    )
+    @PostMapping("/export")
+    public ResponseEntity<SnapshotDTO> exportSnapshot() {
+        SnapshotDTO snapshot = snapshotService.exportSnapshot();
+        return ResponseEntity.status(HttpStatus.CREATED).body(snapshot);
+    }
+
+    @Operation(
+            summary = "Import snapshot",
+            description = "Load a snapshot from the snapshot directory, optionally replacing every existing employer"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Imported snapshot successfully"
+    )
+    @PostMapping("/import/{name}")
+    public ResponseEntity<SnapshotDTO> importSnapshot(@PathVariable String name,
+                                                      @RequestParam(defaultValue = "false") boolean replace) {
+        SnapshotDTO snapshot = snapshotService.importSnapshot(name, replace);
+        return ResponseEntity.ok(snapshot);
+    }
+
+}
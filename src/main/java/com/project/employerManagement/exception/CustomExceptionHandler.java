@@ -1,10 +1,12 @@
 package com.project.employerManagement.exception;
 
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 import java.util.List;
 
@@ -20,6 +22,17 @@ public class CustomExceptionHandler {
         return new ResponseEntity<>(errorBody, HttpStatus.BAD_REQUEST);
     }
 
+    //Constraints on request parameters such as the page size
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ErrorMessageBody> handleParameterValidation(HandlerMethodValidationException ex) {
+        List<String> errorMessages = ex.getParameterValidationResults().stream()
+                .flatMap(result -> result.getResolvableErrors().stream()
+                        .map(error -> result.getMethodParameter().getParameterName() + ": " + error.getDefaultMessage()))
+                .toList();
+        ErrorMessageBody errorBody = new ErrorMessageBody(HttpStatus.BAD_REQUEST, String.join(", ", errorMessages));
+        return new ResponseEntity<>(errorBody, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(EntityNotFoundException.class)
     public ResponseEntity<ErrorMessageBody> handleEntityNotFound(EntityNotFoundException ex) {
         ErrorMessageBody errorBody = new ErrorMessageBody(HttpStatus.NOT_FOUND, ex.getMessage());
@@ -32,6 +45,19 @@ public class CustomExceptionHandler {
         return new ResponseEntity<>(errorBody, HttpStatus.BAD_REQUEST);
     }
 
+    //Raised by storage backends that only detect a taken email when writing
+    @ExceptionHandler(DuplicateKeyException.class)
+    public ResponseEntity<ErrorMessageBody> handleDuplicateKey(DuplicateKeyException ex) {
+        ErrorMessageBody errorBody = new ErrorMessageBody(HttpStatus.BAD_REQUEST, ex.getMessage());
+        return new ResponseEntity<>(errorBody, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidSnapshotException.class)
+    public ResponseEntity<ErrorMessageBody> handleInvalidSnapshot(InvalidSnapshotException ex) {
+        ErrorMessageBody errorBody = new ErrorMessageBody(HttpStatus.BAD_REQUEST, ex.getMessage());
+        return new ResponseEntity<>(errorBody, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorMessageBody> handleGenericException(Exception ex) {
         ErrorMessageBody errorBody = new ErrorMessageBody(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred: " + ex.getMessage());
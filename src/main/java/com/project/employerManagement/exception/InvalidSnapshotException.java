@@ -0,0 +1,9 @@
+package com.project.employerManagement.exception;
+
+public class InvalidSnapshotException extends RuntimeException{
+
+    public InvalidSnapshotException(String message) {
+        super(message);
+    }
+
+}
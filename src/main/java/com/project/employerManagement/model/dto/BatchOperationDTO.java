@@ -0,0 +1,29 @@
+package com.project.employerManagement.model.dto;
+
+import com.project.employerManagement.config.CustomMessages;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchOperationDTO {
+
+    public enum Type { ADD, UPDATE, DELETE }
+
+    @Schema(description = "Kind of change", example = "UPDATE")
+    @NotNull(message = CustomMessages.BATCH_OPERATION_TYPE_NOT_NULL)
+    private Type type;
+
+    @Schema(description = "Id of the employer to update or delete, unused by ADD", example = "1")
+    private Long id;
+
+    @Schema(description = "New values of the employer for ADD and UPDATE, unused by DELETE")
+    @Valid
+    private EmployerDTO employer;
+
+}
@@ -0,0 +1,31 @@
+package com.project.employerManagement.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchOperationResultDTO {
+
+    public enum Status { APPLIED, FAILED, ROLLED_BACK }
+
+    @Schema(description = "Position of the operation in the request", example = "0")
+    private int index;
+
+    @Schema(description = "Kind of change", example = "UPDATE")
+    private BatchOperationDTO.Type type;
+
+    @Schema(description = "APPLIED, FAILED, or ROLLED_BACK when the operation was valid but another one failed in ALL_OR_NOTHING mode",
+            example = "APPLIED")
+    private Status status;
+
+    @Schema(description = "Employer as stored by an applied ADD or UPDATE")
+    private EmployerDTO employer;
+
+    @Schema(description = "Why the operation failed", example = "Employer not found")
+    private String error;
+
+}
@@ -0,0 +1,34 @@
+package com.project.employerManagement.model.dto;
+
+import com.project.employerManagement.config.CustomMessages;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchRequestDTO {
+
+    public static final int MAX_OPERATIONS = 1000;
+
+    public enum Mode { ALL_OR_NOTHING, BEST_EFFORT }
+
+    @Schema(description = "ALL_OR_NOTHING applies no operation if any of them fails, BEST_EFFORT applies every operation that succeeds",
+            example = "ALL_OR_NOTHING")
+    @Builder.Default
+    private Mode mode = Mode.ALL_OR_NOTHING;
+
+    @Schema(description = "Operations, applied in order")
+    @NotEmpty(message = CustomMessages.BATCH_OPERATIONS_NOT_EMPTY)
+    @Size(max = MAX_OPERATIONS, message = CustomMessages.BATCH_TOO_LARGE)
+    private List<@NotNull(message = CustomMessages.BATCH_OPERATION_NOT_NULL) @Valid BatchOperationDTO> operations;
+
+}
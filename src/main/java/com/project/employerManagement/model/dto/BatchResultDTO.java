@@ -0,0 +1,21 @@
+package com.project.employerManagement.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchResultDTO {
+
+    @Schema(description = "Whether any change was committed", example = "true")
+    private boolean committed;
+
+    @Schema(description = "Result of every operation, in request order")
+    private List<BatchOperationResultDTO> results;
+
+}
@@ -0,0 +1,28 @@
+package com.project.employerManagement.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReadinessDTO {
+
+    @Schema(description = "Whether the application accepts traffic", example = "true")
+    private boolean ready;
+
+    @Schema(description = "Duration of the warm-up in milliseconds, null while it runs or when it is disabled", example = "850")
+    private Long warmUpMillis;
+
+    @Schema(description = "Number of hot employers preloaded by the warm-up", example = "500")
+    private int preloadedEmployers;
+
+    @Schema(description = "Number of requests measured since the application became ready", example = "1000")
+    private int requestsMeasured;
+
+    @Schema(description = "p99 latency of the measured requests in milliseconds", example = "12.5")
+    private Double p99Millis;
+
+}
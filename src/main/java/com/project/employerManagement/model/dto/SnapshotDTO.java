@@ -0,0 +1,22 @@
+package com.project.employerManagement.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SnapshotDTO {
+
+    @Schema(description = "File name of the snapshot", example = "employers-20250101T120000Z.snap")
+    private String name;
+
+    @Schema(description = "Number of employers in the snapshot", example = "1000")
+    private long employers;
+
+    @Schema(description = "Size of the snapshot file in bytes", example = "42000")
+    private long bytes;
+
+}
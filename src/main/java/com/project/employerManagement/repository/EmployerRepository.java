@@ -1,11 +1,28 @@
 package com.project.employerManagement.repository;
 
 import com.project.employerManagement.model.entity.Employer;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
-public interface EmployerRepository extends JpaRepository<Employer, Long> {
+// Only the operations the service uses are exposed, so alternative storage
+// backends (e.g. the sharded one) can implement this interface directly.
+public interface EmployerRepository extends Repository<Employer, Long> {
+
+    Employer save(Employer employer);
+
+    Optional<Employer> findById(Long id);
+
+    boolean existsById(Long id);
+
+    void deleteById(Long id);
+
+    List<Employer> findAll();
+
+    Page<Employer> findAll(Pageable pageable);
 
     Optional<Employer> findByEmail(String email);
 
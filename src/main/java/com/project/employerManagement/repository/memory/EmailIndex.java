@@ -0,0 +1,104 @@
+package com.project.employerManagement.repository.memory;
+
+import com.project.employerManagement.util.Emails;
+
+import java.util.function.LongFunction;
+
+// Secondary open-addressing hash index from email to employer id, case-insensitive like the other
+// storage backends: it hashes Emails.key of the email. Only the id and that hash are stored;
+// candidates are confirmed against the email of the employer record, so emails are not kept twice. Not thread safe; InMemoryEmployerRepository guards it with its lock.
+final class EmailIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+
+    private int[] hashes = new int[INITIAL_CAPACITY];
+
+    private int size;
+
+    //Returns the id owning the email, or 0
+    long find(String email, LongFunction<byte[]> records) {
+        String key = Emails.key(email);
+        int hash = key.hashCode();
+        long[] ids = this.ids;
+        int[] hashes = this.hashes;
+        int mask = ids.length - 1;
+        for (int i = slot(hash, mask), probes = 0; probes < ids.length && ids[i] != 0; i = (i + 1) & mask, probes++) {
+            if (hashes[i] == hash) {
+                byte[] record = records.apply(ids[i]);
+                if (record != null && EmployerRecords.emailMatches(record, key)) {
+                    return ids[i];
+                }
+            }
+        }
+        return 0;
+    }
+
+    void add(String email, long id) {
+        if ((size + 1) * 10L > ids.length * 6L) {
+            resize(ids.length * 2);
+        }
+        int hash = Emails.key(email).hashCode();
+        int mask = ids.length - 1;
+        int i = slot(hash, mask);
+        while (ids[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        hashes[i] = hash;
+        ids[i] = id;
+        size++;
+    }
+
+    void remove(String email, long id) {
+        int hash = Emails.key(email).hashCode();
+        int mask = ids.length - 1;
+        int i = slot(hash, mask);
+        while (ids[i] != id) {
+            if (ids[i] == 0) {
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            if (ids[j] == 0) {
+                break;
+            }
+            int ideal = slot(hashes[j], mask);
+            boolean movable = i <= j ? (ideal <= i || ideal > j) : (ideal <= i && ideal > j);
+            if (movable) {
+                ids[i] = ids[j];
+                hashes[i] = hashes[j];
+                i = j;
+            }
+        }
+        ids[i] = 0;
+        size--;
+    }
+
+    private void resize(int capacity) {
+        long[] newIds = new long[capacity];
+        int[] newHashes = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] != 0) {
+                int j = slot(hashes[i], mask);
+                while (newIds[j] != 0) {
+                    j = (j + 1) & mask;
+                }
+                newIds[j] = ids[i];
+                newHashes[j] = hashes[i];
+            }
+        }
+        hashes = newHashes;
+        ids = newIds;
+    }
+
+    private static int slot(int hash, int mask) {
+        int h = hash * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+}
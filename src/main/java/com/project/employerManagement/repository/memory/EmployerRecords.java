@@ -0,0 +1,101 @@
+package com.project.employerManagement.repository.memory;
+
+import com.project.employerManagement.model.entity.Employer;
+import com.project.employerManagement.util.Emails;
+
+import java.nio.charset.StandardCharsets;
+
+// Employers are kept as one byte array each instead of an entity with three String fields:
+//   int position code (-1 for null) | u16 email length | email | u16 name length (0xFFFF for null) | name
+// Positions repeat a lot, so they are interned in a shared table and referenced by code.
+final class EmployerRecords {
+
+    private static final int NULL_LENGTH = 0xFFFF;
+
+    private static final int MAX_LENGTH = NULL_LENGTH - 1;
+
+    private EmployerRecords() {
+    }
+
+    static byte[] encode(Employer employer, int positionCode) {
+        byte[] email = utf8(employer.getEmail());
+        byte[] name = employer.getName() == null ? null : utf8(employer.getName());
+        byte[] record = new byte[4 + 2 + email.length + 2 + (name == null ? 0 : name.length)];
+        putInt(record, 0, positionCode);
+        putShort(record, 4, email.length);
+        System.arraycopy(email, 0, record, 6, email.length);
+        int nameOffset = 6 + email.length;
+        putShort(record, nameOffset, name == null ? NULL_LENGTH : name.length);
+        if (name != null) {
+            System.arraycopy(name, 0, record, nameOffset + 2, name.length);
+        }
+        return record;
+    }
+
+    static Employer decode(long id, byte[] record, String[] positions) {
+        int positionCode = getInt(record, 0);
+        int emailLength = getShort(record, 4);
+        int nameOffset = 6 + emailLength;
+        int nameLength = getShort(record, nameOffset);
+        return Employer.builder()
+                .id(id)
+                .name(nameLength == NULL_LENGTH ? null : new String(record, nameOffset + 2, nameLength, StandardCharsets.UTF_8))
+                .email(new String(record, 6, emailLength, StandardCharsets.UTF_8))
+                .position(positionCode < 0 ? null : positions[positionCode])
+                .build();
+    }
+
+    // Whether the record's email has the given Emails.key. ASCII emails, nearly all of them, are
+    // compared in place; anything else is decoded and lowercased
+    static boolean emailMatches(byte[] record, String key) {
+        int emailLength = getShort(record, 4);
+        if (emailLength == key.length()) {
+            boolean ascii = true;
+            for (int i = 0; i < emailLength && ascii; i++) {
+                int b = record[6 + i];
+                if (b < 0) {
+                    ascii = false;
+                } else if ((b >= 'A' && b <= 'Z' ? b + ('a' - 'A') : b) != key.charAt(i)) {
+                    return false;
+                }
+            }
+            if (ascii) {
+                return true;
+            }
+        }
+        return Emails.key(email(record)).equals(key);
+    }
+
+    static String email(byte[] record) {
+        return new String(record, 6, getShort(record, 4), StandardCharsets.UTF_8);
+    }
+
+    static byte[] utf8(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Employer fields are limited to " + MAX_LENGTH + " bytes");
+        }
+        return bytes;
+    }
+
+    private static void putInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+    private static int getInt(byte[] bytes, int offset) {
+        return (bytes[offset] << 24) | ((bytes[offset + 1] & 0xFF) << 16) | ((bytes[offset + 2] & 0xFF) << 8) | (bytes[offset + 3] & 0xFF);
+    }
+
+    private static void putShort(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 8);
+        bytes[offset + 1] = (byte) value;
+    }
+
+    private static int getShort(byte[] bytes, int offset) {
+        return ((bytes[offset] & 0xFF) << 8) | (bytes[offset + 1] & 0xFF);
+    }
+
+}
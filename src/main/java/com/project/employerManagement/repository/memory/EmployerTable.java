@@ -0,0 +1,111 @@
+package com.project.employerManagement.repository.memory;
+
+// Open-addressing map from a primitive long id to an employer record, with linear probing and
+// backward-shift deletion (no tombstones). Ids must be positive: 0 marks a free slot.
+// Not thread safe; InMemoryEmployerRepository guards it with its lock.
+final class EmployerTable {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+
+    private byte[][] records = new byte[INITIAL_CAPACITY][];
+
+    private int size;
+
+    byte[] get(long id) {
+        long[] ids = this.ids;
+        int mask = ids.length - 1;
+        for (int i = slot(id, mask), probes = 0; probes < ids.length; i = (i + 1) & mask, probes++) {
+            if (ids[i] == id) {
+                return records[i];
+            }
+            if (ids[i] == 0) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    byte[] put(long id, byte[] record) {
+        if ((size + 1) * 10L > ids.length * 6L) {
+            resize(ids.length * 2);
+        }
+        int mask = ids.length - 1;
+        int i = slot(id, mask);
+        while (ids[i] != 0) {
+            if (ids[i] == id) {
+                byte[] previous = records[i];
+                records[i] = record;
+                return previous;
+            }
+            i = (i + 1) & mask;
+        }
+        records[i] = record;
+        ids[i] = id;
+        size++;
+        return null;
+    }
+
+    byte[] remove(long id) {
+        int mask = ids.length - 1;
+        int i = slot(id, mask);
+        while (ids[i] != id) {
+            if (ids[i] == 0) {
+                return null;
+            }
+            i = (i + 1) & mask;
+        }
+        byte[] removed = records[i];
+        //Shift back later entries of the probe chain so lookups never stop at the hole
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            if (ids[j] == 0) {
+                break;
+            }
+            int ideal = slot(ids[j], mask);
+            boolean movable = i <= j ? (ideal <= i || ideal > j) : (ideal <= i && ideal > j);
+            if (movable) {
+                ids[i] = ids[j];
+                records[i] = records[j];
+                i = j;
+            }
+        }
+        ids[i] = 0;
+        records[i] = null;
+        size--;
+        return removed;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void resize(int capacity) {
+        long[] oldIds = ids;
+        byte[][] oldRecords = records;
+        long[] newIds = new long[capacity];
+        byte[][] newRecords = new byte[capacity][];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldIds[i] != 0) {
+                int j = slot(oldIds[i], mask);
+                while (newIds[j] != 0) {
+                    j = (j + 1) & mask;
+                }
+                newIds[j] = oldIds[i];
+                newRecords[j] = oldRecords[i];
+            }
+        }
+        //Records first: an optimistic reader seeing the new ids must not pair them with old records
+        records = newRecords;
+        ids = newIds;
+    }
+
+    static int slot(long id, int mask) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+}
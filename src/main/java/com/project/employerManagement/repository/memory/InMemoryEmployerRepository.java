@@ -0,0 +1,373 @@
+package com.project.employerManagement.repository.memory;
+
+import com.project.employerManagement.config.CustomMessages;
+import com.project.employerManagement.model.entity.Employer;
+import com.project.employerManagement.repository.EmployerRepository;
+import com.project.employerManagement.snapshot.EmployerSnapshotReader;
+import com.project.employerManagement.snapshot.EmployerSnapshotWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// Embedded storage engine: employers are held in primitive-keyed open-addressing tables, a
+// secondary email index enforces uniqueness and a sorted id array serves ordered reads. Writes are serialized by a StampedLock. Point reads
+// are optimistic and lock-free unless they race with a write, in which case they retry under the
+// read lock.
+//
+// Durability: every write is appended to the write-ahead log before it is applied. A periodic
+// snapshot (in the binary snapshot format) then replaces the logs it covers. Files in the data
+// directory:
+//   employers-<generation>.snap  state covering every log with a smaller generation
+//   wal-<generation>.log         writes made after that snapshot was started
+// Recovery loads the newest snapshot and replays the logs from its generation on. Both record the
+// next id, so the ids of deleted employers are not handed out again after a restart.
+@Slf4j
+public class InMemoryEmployerRepository implements EmployerRepository, DisposableBean {
+
+    private static final Pattern SNAPSHOT_FILE = Pattern.compile("employers-(\\d+)\\.snap");
+
+    private static final Pattern WAL_FILE = Pattern.compile("wal-(\\d+)\\.log");
+
+    private final Path directory;
+
+    private final boolean syncWrites;
+
+    private final StampedLock lock = new StampedLock();
+
+    private final EmployerTable employers = new EmployerTable();
+
+    private final EmailIndex emails = new EmailIndex();
+
+    private final SortedIds order = new SortedIds();
+
+    private final Map<String, Integer> positionCodes = new HashMap<>();
+
+    private String[] positions = new String[0];
+
+    private long nextId = 1;
+
+    private long generation;
+
+    private WriteAheadLog writeAheadLog;
+
+    private final ScheduledExecutorService snapshotScheduler;
+
+    public InMemoryEmployerRepository(Path directory, Duration snapshotInterval, boolean syncWrites) {
+        this.directory = directory;
+        this.syncWrites = syncWrites;
+        try {
+            Files.createDirectories(directory);
+            recover();
+            generation++;
+            writeAheadLog = openWriteAheadLog(generation);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not open employer storage in " + directory, ex);
+        }
+        if (snapshotInterval.isZero()) {
+            snapshotScheduler = null;
+        } else {
+            snapshotScheduler = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("employer-snapshot").daemon().factory());
+            snapshotScheduler.scheduleWithFixedDelay(this::scheduledSnapshot,
+                    snapshotInterval.toMillis(), snapshotInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public Employer save(Employer employer) {
+        long stamp = lock.writeLock();
+        try {
+            long id = employer.getId() == 0 ? nextId : employer.getId();
+            long owner = emails.find(employer.getEmail(), employers::get);
+            if (owner != 0 && owner != id) {
+                throw new DuplicateKeyException(CustomMessages.employerAlreadyExists(employer.getEmail()));
+            }
+            Employer stored = Employer.builder()
+                    .id(id)
+                    .name(employer.getName())
+                    .email(employer.getEmail())
+                    .position(employer.getPosition())
+                    .build();
+            writeAheadLog.appendPut(stored);
+            apply(stored);
+            employer.setId(id);
+            return employer;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not write employer " + employer.getId() + " to the write-ahead log", ex);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public Optional<Employer> findById(Long id) {
+        return read(() -> {
+            byte[] record = employers.get(id);
+            return record == null ? Optional.empty() : Optional.of(EmployerRecords.decode(id, record, positions));
+        });
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return read(() -> employers.get(id) != null);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        long stamp = lock.writeLock();
+        try {
+            if (employers.get(id) != null) {
+                writeAheadLog.appendDelete(id);
+                remove(id);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not write deletion of employer " + id + " to the write-ahead log", ex);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public List<Employer> findAll() {
+        long stamp = lock.readLock();
+        try {
+            return decode(order.toArray());
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public Page<Employer> findAll(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            List<Employer> all = findAll();
+            return new PageImpl<>(all, pageable, all.size());
+        }
+        for (Sort.Order order : pageable.getSort()) {
+            if (!order.getProperty().equals("id") || order.isDescending()) {
+                throw new UnsupportedOperationException("In-memory storage only supports pages ordered by ascending id");
+            }
+        }
+        long stamp = lock.readLock();
+        try {
+            long[] ids = order.range(pageable.getOffset(), pageable.getOffset() + pageable.getPageSize());
+            return new PageImpl<>(decode(ids), pageable, order.size());
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public Optional<Employer> findByEmail(String email) {
+        return read(() -> {
+            long id = emails.find(email, employers::get);
+            return id == 0 ? Optional.empty() : Optional.of(EmployerRecords.decode(id, employers.get(id), positions));
+        });
+    }
+
+    // Starts a new log generation, then writes the state as of that moment to a snapshot file.
+    // Only the log rotation and a copy of the records happen under the write lock.
+    public void snapshot() throws IOException {
+        long snapshotGeneration;
+        long[] ids;
+        byte[][] records;
+        String[] positionTable;
+        long snapshotNextId;
+        long stamp = lock.writeLock();
+        try {
+            writeAheadLog.close();
+            snapshotGeneration = ++generation;
+            writeAheadLog = openWriteAheadLog(snapshotGeneration);
+            snapshotNextId = nextId;
+            //Records are never modified in place, so copying the references is enough
+            ids = order.toArray();
+            records = new byte[ids.length][];
+            for (int i = 0; i < ids.length; i++) {
+                records[i] = employers.get(ids[i]);
+            }
+            positionTable = positions;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        Path target = directory.resolve("employers-" + snapshotGeneration + ".snap");
+        Path temporary = directory.resolve(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            EmployerSnapshotWriter writer = new EmployerSnapshotWriter(channel);
+            for (int i = 0; i < ids.length; i++) {
+                writer.write(EmployerRecords.decode(ids[i], records[i], positionTable));
+            }
+            writer.finish(snapshotNextId);
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        deleteFilesBefore(SNAPSHOT_FILE, snapshotGeneration);
+        deleteFilesBefore(WAL_FILE, snapshotGeneration);
+    }
+
+    public int size() {
+        return read(employers::size);
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        if (snapshotScheduler != null) {
+            snapshotScheduler.shutdownNow();
+        }
+        snapshot();
+        writeAheadLog.close();
+    }
+
+    private <T> T read(Supplier<T> reader) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                T result = reader.get();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException ignored) {
+                //Inconsistent view caused by a concurrent write, read again under the lock
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private List<Employer> decode(long[] ids) {
+        List<Employer> result = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            result.add(EmployerRecords.decode(id, employers.get(id), positions));
+        }
+        return result;
+    }
+
+    private void apply(Employer employer) {
+        byte[] previous = employers.put(employer.getId(), EmployerRecords.encode(employer, positionCode(employer.getPosition())));
+        if (previous == null) {
+            emails.add(employer.getEmail(), employer.getId());
+            order.add(employer.getId());
+        } else if (!EmployerRecords.email(previous).equals(employer.getEmail())) {
+            emails.remove(EmployerRecords.email(previous), employer.getId());
+            emails.add(employer.getEmail(), employer.getId());
+        }
+        nextId = Math.max(nextId, employer.getId() + 1);
+    }
+
+    private void remove(long id) {
+        byte[] removed = employers.remove(id);
+        if (removed != null) {
+            emails.remove(EmployerRecords.email(removed), id);
+            order.remove(id);
+        }
+    }
+
+    private int positionCode(String position) {
+        if (position == null) {
+            return -1;
+        }
+        Integer code = positionCodes.get(position);
+        if (code == null) {
+            code = positions.length;
+            positionCodes.put(position, code);
+            //Copy on write, so optimistic readers always see a complete table
+            String[] grown = Arrays.copyOf(positions, code + 1);
+            grown[code] = position;
+            positions = grown;
+        }
+        return code;
+    }
+
+    private void recover() throws IOException {
+        long snapshotGeneration = latestGeneration(SNAPSHOT_FILE);
+        if (snapshotGeneration > 0) {
+            EmployerSnapshotReader reader = EmployerSnapshotReader.open(directory.resolve("employers-" + snapshotGeneration + ".snap"));
+            for (int block = 0; block < reader.blockCount(); block++) {
+                reader.readBlock(block).forEach(this::apply);
+            }
+            nextId = Math.max(nextId, reader.nextId());
+        }
+        generation = snapshotGeneration;
+        for (long walGeneration : generations(WAL_FILE)) {
+            if (walGeneration >= snapshotGeneration) {
+                WriteAheadLog.replay(walPath(walGeneration), this::apply, this::remove,
+                        logged -> nextId = Math.max(nextId, logged));
+                generation = Math.max(generation, walGeneration);
+            }
+        }
+        log.info("Loaded {} employers from {}", employers.size(), directory);
+    }
+
+    private void scheduledSnapshot() {
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException ex) {
+            log.error("Employer snapshot failed, the write-ahead log keeps growing until the next one succeeds", ex);
+        }
+    }
+
+    private WriteAheadLog openWriteAheadLog(long walGeneration) throws IOException {
+        WriteAheadLog log = new WriteAheadLog(walPath(walGeneration), syncWrites);
+        log.appendNextId(nextId);
+        return log;
+    }
+
+    private Path walPath(long walGeneration) {
+        return directory.resolve("wal-" + walGeneration + ".log");
+    }
+
+    private long latestGeneration(Pattern pattern) throws IOException {
+        return generations(pattern).stream().mapToLong(Long::longValue).max().orElse(0);
+    }
+
+    private List<Long> generations(Pattern pattern) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> pattern.matcher(path.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(matcher -> Long.parseLong(matcher.group(1)))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private void deleteFilesBefore(Pattern pattern, long generation) throws IOException {
+        for (long older : generations(pattern)) {
+            if (older < generation) {
+                Files.deleteIfExists(directory.resolve(pattern == SNAPSHOT_FILE
+                        ? "employers-" + older + ".snap" : "wal-" + older + ".log"));
+            }
+        }
+    }
+
+}
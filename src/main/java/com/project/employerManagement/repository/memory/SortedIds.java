@@ -0,0 +1,54 @@
+package com.project.employerManagement.repository.memory;
+
+import java.util.Arrays;
+
+// Ids kept in ascending order for ordered scans and pages. New ids normally come from an increasing
+// sequence, so inserts are appends; a removal shifts the tail with one array copy.
+// Not thread safe; InMemoryEmployerRepository guards it with its lock.
+final class SortedIds {
+
+    private long[] ids = new long[1024];
+
+    private int size;
+
+    void add(long id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        if (size == 0 || ids[size - 1] < id) {
+            ids[size++] = id;
+            return;
+        }
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            return;
+        }
+        index = -index - 1;
+        System.arraycopy(ids, index, ids, index + 1, size - index);
+        ids[index] = id;
+        size++;
+    }
+
+    void remove(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+        }
+    }
+
+    long[] range(long from, long to) {
+        int start = (int) Math.min(from, size);
+        int end = (int) Math.min(to, size);
+        return Arrays.copyOfRange(ids, start, end);
+    }
+
+    long[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    int size() {
+        return size;
+    }
+
+}
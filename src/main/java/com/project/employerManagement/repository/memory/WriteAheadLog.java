@@ -0,0 +1,143 @@
+package com.project.employerManagement.repository.memory;
+
+import com.project.employerManagement.model.entity.Employer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.zip.CRC32;
+
+// Append-only log of the writes made since the last snapshot.
+// Entry layout: int payload length | int CRC32 of payload | byte operation | long id | [position | name | email]
+// where strings are u16 length + UTF-8, 0xFFFF for null. Every log starts with a NEXT_ID entry carrying
+// the next id to hand out in place of an employer id, so ids of deleted employers are never reused. Replay stops at the first torn or corrupted
+// entry and truncates the file there, since it can only be the tail of an interrupted write.
+final class WriteAheadLog implements AutoCloseable {
+
+    private static final byte PUT = 1;
+
+    private static final byte DELETE = 2;
+
+    private static final byte NEXT_ID = 3;
+
+    private static final int HEADER_SIZE = 8;
+
+    private static final int NULL_LENGTH = 0xFFFF;
+
+    private final FileChannel channel;
+
+    private final boolean syncWrites;
+
+    WriteAheadLog(Path path, boolean syncWrites) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.channel.position(channel.size());
+        this.syncWrites = syncWrites;
+    }
+
+    static void replay(Path path, Consumer<Employer> put, LongConsumer delete, LongConsumer nextId) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer log = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int position = 0;
+            while (position + HEADER_SIZE <= log.capacity()) {
+                int length = log.getInt(position);
+                if (length <= 0 || position + HEADER_SIZE + length > log.capacity()) {
+                    break;
+                }
+                ByteBuffer payload = log.slice(position + HEADER_SIZE, length);
+                if (checksum(payload.duplicate()) != log.getInt(position + 4)) {
+                    break;
+                }
+                byte operation = payload.get();
+                long id = payload.getLong();
+                if (operation == PUT) {
+                    put.accept(Employer.builder()
+                            .id(id)
+                            .position(getString(payload))
+                            .name(getString(payload))
+                            .email(getString(payload))
+                            .build());
+                } else if (operation == NEXT_ID) {
+                    nextId.accept(id);
+                } else {
+                    delete.accept(id);
+                }
+                position += HEADER_SIZE + length;
+            }
+            channel.truncate(position);
+        }
+    }
+
+    void appendPut(Employer employer) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(PUT);
+            out.writeLong(employer.getId());
+            putString(out, employer.getPosition());
+            putString(out, employer.getName());
+            putString(out, employer.getEmail());
+        }
+        append(bytes.toByteArray());
+    }
+
+    void appendDelete(long id) throws IOException {
+        append(ByteBuffer.allocate(9).put(DELETE).putLong(id).array());
+    }
+
+    void appendNextId(long nextId) throws IOException {
+        append(ByteBuffer.allocate(9).put(NEXT_ID).putLong(nextId).array());
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.force(false);
+        channel.close();
+    }
+
+    private void append(byte[] payload) throws IOException {
+        ByteBuffer entry = ByteBuffer.allocate(HEADER_SIZE + payload.length)
+                .putInt(payload.length)
+                .putInt(checksum(ByteBuffer.wrap(payload)))
+                .put(payload)
+                .flip();
+        while (entry.hasRemaining()) {
+            channel.write(entry);
+        }
+        if (syncWrites) {
+            channel.force(false);
+        }
+    }
+
+    private static void putString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeShort(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = EmployerRecords.utf8(value);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int checksum(ByteBuffer payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+}
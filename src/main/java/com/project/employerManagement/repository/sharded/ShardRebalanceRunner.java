@@ -0,0 +1,35 @@
+package com.project.employerManagement.repository.sharded;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+// One-off tool mode: started with the rebalance profile, the application moves the data to the target
+// layout without starting the web server and exits. Afterwards employer.sharding.shards must be set to
+// the target.
+@Slf4j
+@RequiredArgsConstructor
+public class ShardRebalanceRunner implements ApplicationRunner {
+
+    private final List<DataSource> currentShards;
+
+    private final List<DataSource> targetShards;
+
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Rebalancing employers from {} to {} shards", currentShards.size(), targetShards.size());
+        ShardRebalancer.Report report = new ShardRebalancer().rebalance(currentShards, targetShards);
+        log.info("Rebalance finished: {} employers and {} email index entries moved",
+                report.movedEmployers(), report.movedEmails());
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.project.employerManagement.repository.sharded;
+
+import com.project.employerManagement.model.entity.Employer;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Moves employers and email index entries from the current shard layout to a target layout with a
+// different number of shards. Shards present in both layouts must be passed as the same DataSource
+// instance; rows already on their target shard are left in place. Each batch is copied before it is
+// deleted from its source, and copies overwrite, so an interrupted run can simply be started again.
+public class ShardRebalancer {
+
+    private static final int BATCH_SIZE = 500;
+
+    public record Report(long movedEmployers, long movedEmails) {
+    }
+
+    public Report rebalance(List<DataSource> current, List<DataSource> target) {
+        target.forEach(ShardedEmployerRepository::initializeSchema);
+        ShardRouter targetRouter = new ShardRouter(target.size());
+        long movedEmployers = 0;
+        long movedEmails = 0;
+        for (DataSource source : current) {
+            movedEmployers += moveEmployers(source, target, targetRouter);
+            movedEmails += moveEmails(source, target, targetRouter);
+        }
+        return new Report(movedEmployers, movedEmails);
+    }
+
+    private long moveEmployers(DataSource source, List<DataSource> target, ShardRouter targetRouter) {
+        JdbcTemplate from = new JdbcTemplate(source);
+        long moved = 0;
+        long lastId = Long.MIN_VALUE;
+        while (true) {
+            List<Employer> batch = from.query(ShardedEmployerRepository.SELECT_EMPLOYER + " WHERE id > ? ORDER BY id LIMIT ?",
+                    ShardedEmployerRepository.EMPLOYER_ROW_MAPPER, lastId, BATCH_SIZE);
+            if (batch.isEmpty()) {
+                return moved;
+            }
+            lastId = batch.getLast().getId();
+            Map<DataSource, List<Employer>> relocated = new HashMap<>();
+            for (Employer employer : batch) {
+                DataSource destination = target.get(targetRouter.shardFor(employer.getId()));
+                if (destination != source) {
+                    relocated.computeIfAbsent(destination, ds -> new ArrayList<>()).add(employer);
+                }
+            }
+            for (Map.Entry<DataSource, List<Employer>> entry : relocated.entrySet()) {
+                JdbcTemplate to = new JdbcTemplate(entry.getKey());
+                List<Object[]> ids = entry.getValue().stream().map(e -> new Object[]{e.getId()}).toList();
+                to.batchUpdate("DELETE FROM employer WHERE id = ?", ids);
+                to.batchUpdate(ShardedEmployerRepository.INSERT_EMPLOYER, entry.getValue().stream()
+                        .map(e -> new Object[]{e.getId(), e.getName(), e.getEmail(), e.getPosition()})
+                        .toList());
+                from.batchUpdate("DELETE FROM employer WHERE id = ?", ids);
+                moved += entry.getValue().size();
+            }
+        }
+    }
+
+    private long moveEmails(DataSource source, List<DataSource> target, ShardRouter targetRouter) {
+        JdbcTemplate from = new JdbcTemplate(source);
+        long moved = 0;
+        String lastEmail = "";
+        while (true) {
+            List<EmailEntry> batch = from.query(
+                    "SELECT email, employer_id FROM employer_email_index WHERE email > ? ORDER BY email LIMIT ?",
+                    (rs, rowNum) -> new EmailEntry(rs.getString("email"), rs.getLong("employer_id")),
+                    lastEmail, BATCH_SIZE);
+            if (batch.isEmpty()) {
+                return moved;
+            }
+            lastEmail = batch.getLast().email();
+            Map<DataSource, List<EmailEntry>> relocated = new HashMap<>();
+            for (EmailEntry entry : batch) {
+                DataSource destination = target.get(targetRouter.shardFor(entry.email()));
+                if (destination != source) {
+                    relocated.computeIfAbsent(destination, ds -> new ArrayList<>()).add(entry);
+                }
+            }
+            for (Map.Entry<DataSource, List<EmailEntry>> entry : relocated.entrySet()) {
+                JdbcTemplate to = new JdbcTemplate(entry.getKey());
+                List<Object[]> emails = entry.getValue().stream().map(e -> new Object[]{e.email()}).toList();
+                List<Object[]> keys = entry.getValue().stream().map(e -> new Object[]{ShardRouter.emailKey(e.email())}).toList();
+                to.batchUpdate("DELETE FROM employer_email_index WHERE email = ?", keys);
+                to.batchUpdate("INSERT INTO employer_email_index (email, employer_id) VALUES (?, ?)", entry.getValue().stream()
+                        .map(e -> new Object[]{ShardRouter.emailKey(e.email()), e.employerId()})
+                        .toList());
+                from.batchUpdate("DELETE FROM employer_email_index WHERE email = ?", emails);
+                moved += entry.getValue().size();
+            }
+        }
+    }
+
+    private record EmailEntry(String email, long employerId) {
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.project.employerManagement.repository.sharded;
+
+import com.project.employerManagement.util.Emails;
+import com.project.employerManagement.util.Hashing;
+
+// Stable placement of employers (by id) and email index entries (by email) over N shards.
+// The mapping only depends on the key and N, so every node routes the same way. Keys are spread with
+// Hashing.mix rather than id % N, which would stripe sequential ids. Emails are routed and
+// indexed by their lowercase form, so addresses differing only in case always meet on the same shard
+// and conflict there, like they do under the case-insensitive unique key of the JPA storage.
+public class ShardRouter {
+
+    private final int shardCount;
+
+    public ShardRouter(int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be positive");
+        }
+        this.shardCount = shardCount;
+    }
+
+    public int shardFor(long id) {
+        return Math.floorMod(Hashing.mix(id), shardCount);
+    }
+
+    public int shardFor(String email) {
+        return Math.floorMod(Hashing.mix(emailKey(email).hashCode()), shardCount);
+    }
+
+    public static String emailKey(String email) {
+        return Emails.key(email);
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+}
@@ -0,0 +1,316 @@
+package com.project.employerManagement.repository.sharded;
+
+import com.project.employerManagement.config.CustomMessages;
+import com.project.employerManagement.model.entity.Employer;
+import com.project.employerManagement.repository.EmployerRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+// Employers live on the shard picked by their id. Email uniqueness is enforced by a separate
+// email -> id index whose entries live on the shard picked by the email, so both lookups hit one shard.
+// Writes touching two shards are not distributed transactions: the email is claimed first and
+// released again if the employer write fails. A crash in between leaves an index entry pointing to
+// an employer that does not have the email; such an entry is reclaimed by the next claim of that
+// email once it is older than ORPHAN_GRACE, which leaves in-flight writes of other requests alone.
+public class ShardedEmployerRepository implements EmployerRepository, DisposableBean {
+
+    static final String SELECT_EMPLOYER = "SELECT id, name, email, position FROM employer";
+
+    static final String INSERT_EMPLOYER = "INSERT INTO employer (id, name, email, position) VALUES (?, ?, ?, ?)";
+
+    static final Duration ORPHAN_GRACE = Duration.ofMinutes(1);
+
+    static final RowMapper<Employer> EMPLOYER_ROW_MAPPER = (rs, rowNum) -> Employer.builder()
+            .id(rs.getLong("id"))
+            .name(rs.getString("name"))
+            .email(rs.getString("email"))
+            .position(rs.getString("position"))
+            .build();
+
+    private final List<JdbcTemplate> shards;
+
+    private final ShardRouter router;
+
+    private final EmployerIdGenerator idGenerator;
+
+    private final ExecutorService scatterExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ShardedEmployerRepository(List<DataSource> dataSources, EmployerIdGenerator idGenerator) {
+        dataSources.forEach(ShardedEmployerRepository::initializeSchema);
+        this.shards = dataSources.stream().map(JdbcTemplate::new).toList();
+        this.router = new ShardRouter(dataSources.size());
+        this.idGenerator = idGenerator;
+    }
+
+    public static void initializeSchema(DataSource dataSource) {
+        new ResourceDatabasePopulator(new ClassPathResource("db/shard-schema.sql")).execute(dataSource);
+    }
+
+    @Override
+    public Employer save(Employer employer) {
+        if (employer.getId() == 0) {
+            employer.setId(idGenerator.nextId());
+            insert(employer);
+            return employer;
+        }
+        Optional<Employer> existing = findById(employer.getId());
+        if (existing.isEmpty()) {
+            insert(employer);
+            return employer;
+        }
+        String previousEmail = existing.get().getEmail();
+        boolean emailChanged = !ShardRouter.emailKey(previousEmail).equals(ShardRouter.emailKey(employer.getEmail()));
+        if (emailChanged) {
+            claimEmail(employer.getEmail(), employer.getId());
+        }
+        try {
+            employerShard(employer.getId()).update("UPDATE employer SET name = ?, email = ?, position = ? WHERE id = ?",
+                    employer.getName(), employer.getEmail(), employer.getPosition(), employer.getId());
+        } catch (RuntimeException ex) {
+            if (emailChanged) {
+                releaseEmail(employer.getEmail(), employer.getId());
+            }
+            throw ex;
+        }
+        if (emailChanged) {
+            releaseEmail(previousEmail, employer.getId());
+        }
+        return employer;
+    }
+
+    @Override
+    public Optional<Employer> findById(Long id) {
+        return employerShard(id).query(SELECT_EMPLOYER + " WHERE id = ?", EMPLOYER_ROW_MAPPER, id)
+                .stream().findFirst();
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        Long count = employerShard(id).queryForObject("SELECT COUNT(*) FROM employer WHERE id = ?", Long.class, id);
+        return count != null && count > 0;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        findById(id).ifPresent(employer -> {
+            employerShard(id).update("DELETE FROM employer WHERE id = ?", id);
+            releaseEmail(employer.getEmail(), id);
+        });
+    }
+
+    @Override
+    public List<Employer> findAll() {
+        return mergeById(scatter(shard -> shard.query(SELECT_EMPLOYER + " ORDER BY id", EMPLOYER_ROW_MAPPER)),
+                Long.MAX_VALUE);
+    }
+
+    @Override
+    public Page<Employer> findAll(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            List<Employer> employers = findAll();
+            return new PageImpl<>(employers, pageable, employers.size());
+        }
+        requireIdOrder(pageable.getSort());
+        //Every shard may own the whole page, so each returns its first offset + size rows
+        long limit = pageable.getOffset() + pageable.getPageSize();
+        List<ShardSlice> slices = scatter(shard -> new ShardSlice(
+                shard.query(SELECT_EMPLOYER + " ORDER BY id LIMIT ?", EMPLOYER_ROW_MAPPER, limit),
+                shard.queryForObject("SELECT COUNT(*) FROM employer", Long.class)));
+        List<Employer> content = mergeById(slices.stream().map(ShardSlice::employers).toList(), limit).stream()
+                .skip(pageable.getOffset())
+                .toList();
+        long total = slices.stream().mapToLong(ShardSlice::count).sum();
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    @Override
+    public Optional<Employer> findByEmail(String email) {
+        String key = ShardRouter.emailKey(email);
+        return emailShard(email)
+                .queryForList("SELECT employer_id FROM employer_email_index WHERE email = ?", Long.class, key)
+                .stream().findFirst()
+                .flatMap(this::findById)
+                .filter(employer -> ShardRouter.emailKey(employer.getEmail()).equals(key));
+    }
+
+    //In shard order
+    public List<DataSource> getDataSources() {
+        return shards.stream().map(JdbcTemplate::getDataSource).toList();
+    }
+
+    @Override
+    public void destroy() {
+        scatterExecutor.shutdown();
+    }
+
+    private void insert(Employer employer) {
+        claimEmail(employer.getEmail(), employer.getId());
+        try {
+            employerShard(employer.getId()).update(INSERT_EMPLOYER,
+                    employer.getId(), employer.getName(), employer.getEmail(), employer.getPosition());
+        } catch (RuntimeException ex) {
+            releaseEmail(employer.getEmail(), employer.getId());
+            throw ex;
+        }
+    }
+
+    //Fails with DuplicateKeyException when another employer already owns the email
+    private void claimEmail(String email, long id) {
+        try {
+            insertClaim(email, id);
+        } catch (DuplicateKeyException ex) {
+            if (!reclaimOrphan(email)) {
+                throw new DuplicateKeyException(CustomMessages.employerAlreadyExists(email), ex);
+            }
+            try {
+                insertClaim(email, id);
+            } catch (DuplicateKeyException retryEx) {
+                throw new DuplicateKeyException(CustomMessages.employerAlreadyExists(email), retryEx);
+            }
+        }
+    }
+
+    private void insertClaim(String email, long id) {
+        emailShard(email).update("INSERT INTO employer_email_index (email, employer_id, claimed_at) VALUES (?, ?, ?)",
+                ShardRouter.emailKey(email), id, Timestamp.from(Instant.now()));
+    }
+
+    //Removes the entry holding the email if its employer does not have that email, true if the email is free now
+    private boolean reclaimOrphan(String email) {
+        String key = ShardRouter.emailKey(email);
+        List<ClaimEntry> claims = emailShard(email).query(
+                "SELECT employer_id, claimed_at FROM employer_email_index WHERE email = ?",
+                (rs, rowNum) -> new ClaimEntry(rs.getLong("employer_id"), rs.getTimestamp("claimed_at").toInstant()), key);
+        if (claims.isEmpty()) {
+            return true;
+        }
+        ClaimEntry claim = claims.getFirst();
+        if (claim.claimedAt().isAfter(Instant.now().minus(ORPHAN_GRACE))) {
+            return false;
+        }
+        boolean orphan = findById(claim.employerId())
+                .map(employer -> !ShardRouter.emailKey(employer.getEmail()).equals(key))
+                .orElse(true);
+        if (orphan) {
+            emailShard(email).update("DELETE FROM employer_email_index WHERE email = ? AND employer_id = ?",
+                    key, claim.employerId());
+        }
+        return orphan;
+    }
+
+    private void releaseEmail(String email, long id) {
+        emailShard(email).update("DELETE FROM employer_email_index WHERE email = ? AND employer_id = ?",
+                ShardRouter.emailKey(email), id);
+    }
+
+    private JdbcTemplate employerShard(long id) {
+        return shards.get(router.shardFor(id));
+    }
+
+    private JdbcTemplate emailShard(String email) {
+        return shards.get(router.shardFor(email));
+    }
+
+    private <T> List<T> scatter(Function<JdbcTemplate, T> query) {
+        List<Future<T>> futures = shards.stream()
+                .map(shard -> scatterExecutor.submit(() -> query.apply(shard)))
+                .toList();
+        List<T> results = new ArrayList<>(futures.size());
+        for (Future<T> future : futures) {
+            results.add(await(future));
+        }
+        return results;
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while querying shards", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private static void requireIdOrder(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!order.getProperty().equals("id") || order.isDescending()) {
+                throw new UnsupportedOperationException("Sharded storage only supports pages ordered by ascending id");
+            }
+        }
+    }
+
+    //K-way merge of per-shard results that are already sorted by id
+    private static List<Employer> mergeById(List<List<Employer>> sortedRuns, long limit) {
+        PriorityQueue<RunCursor> heads = new PriorityQueue<>(Comparator.comparingLong(cursor -> cursor.head.getId()));
+        for (List<Employer> run : sortedRuns) {
+            if (!run.isEmpty()) {
+                heads.add(new RunCursor(run.iterator()));
+            }
+        }
+        List<Employer> merged = new ArrayList<>();
+        while (!heads.isEmpty() && merged.size() < limit) {
+            RunCursor cursor = heads.poll();
+            merged.add(cursor.head);
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+        return merged;
+    }
+
+    private record ShardSlice(List<Employer> employers, long count) {
+    }
+
+    private record ClaimEntry(long employerId, Instant claimedAt) {
+    }
+
+    private static final class RunCursor {
+
+        private final Iterator<Employer> remaining;
+        private Employer head;
+
+        private RunCursor(Iterator<Employer> remaining) {
+            this.remaining = remaining;
+            this.head = remaining.next();
+        }
+
+        private boolean advance() {
+            if (!remaining.hasNext()) {
+                return false;
+            }
+            head = remaining.next();
+            return true;
+        }
+
+    }
+
+}
@@ -0,0 +1,284 @@
+package com.project.employerManagement.service;
+
+import com.project.employerManagement.audit.AuditAction;
+import com.project.employerManagement.audit.AuditLog;
+import com.project.employerManagement.cache.EmployerJsonCache;
+import com.project.employerManagement.config.CustomMessages;
+import com.project.employerManagement.exception.EntityAlreadyExistsException;
+import com.project.employerManagement.model.dto.BatchOperationDTO;
+import com.project.employerManagement.model.dto.BatchOperationResultDTO;
+import com.project.employerManagement.model.dto.BatchRequestDTO;
+import com.project.employerManagement.model.dto.BatchResultDTO;
+import com.project.employerManagement.model.dto.EmployerDTO;
+import com.project.employerManagement.model.entity.Employer;
+import com.project.employerManagement.util.Emails;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+// Applies a list of changes in one transaction. The employers the batch touches are read and locked
+// with one query and the owners of the emails it claims with another; the operations are then
+// checked in order against that view, so each one sees the effect of the ones before it exactly as
+// separate calls would. Valid changes are written as JDBC batches, one per run of consecutive
+// operations of the same type, which keeps the statements in request order for the unique email
+// constraint. Emails are compared case-insensitively, as MySQL's default collation does for that
+// constraint, so a batch never plans a change the database would then reject. Only available with
+// the default JPA storage.
+@Service
+@ConditionalOnProperty(name = "employer.storage.mode", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class BatchService implements IBatchService {
+
+    private static final String SELECT_EMPLOYERS_FOR_UPDATE = "SELECT id, name, email, position FROM employer WHERE id IN (%s) FOR UPDATE";
+
+    private static final String SELECT_EMAIL_OWNERS = "SELECT id, email FROM employer WHERE email IN (%s)";
+
+    private static final String INSERT_EMPLOYER = "INSERT INTO employer (name, email, position) VALUES (?, ?, ?)";
+
+    private static final String UPDATE_EMPLOYER = "UPDATE employer SET name = ?, email = ?, position = ? WHERE id = ?";
+
+    private static final String DELETE_EMPLOYER = "DELETE FROM employer WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final PlatformTransactionManager transactionManager;
+
+    private final AuditLog auditLog;
+
+    private final EmployerJsonCache employerJsonCache;
+
+    private record Change(int index, BatchOperationDTO.Type type, Employer before, Employer after) {
+    }
+
+    @Override
+    public BatchResultDTO executeBatch(BatchRequestDTO request) {
+        List<BatchOperationDTO> operations = request.getOperations();
+        BatchOperationResultDTO[] results = new BatchOperationResultDTO[operations.size()];
+        List<Change> changes = new ArrayList<>(operations.size());
+        boolean committed;
+        try {
+            committed = Boolean.TRUE.equals(new TransactionTemplate(transactionManager).execute(status -> {
+                Map<Long, Employer> employers = lockEmployers(operations);
+                Map<String, Long> emailOwners = emailOwners(operations);
+                boolean failed = false;
+                for (int index = 0; index < operations.size(); index++) {
+                    String error = plan(index, operations.get(index), employers, emailOwners, changes);
+                    if (error != null) {
+                        results[index] = failure(index, operations.get(index).getType(), error);
+                        failed = true;
+                    }
+                }
+                if (changes.isEmpty() || failed && request.getMode() == BatchRequestDTO.Mode.ALL_OR_NOTHING) {
+                    status.setRollbackOnly();
+                    return false;
+                }
+                write(changes);
+                return true;
+            }));
+        } catch (DataIntegrityViolationException ex) {
+            //Only reachable when another request changed the same emails after they were checked
+            throw new EntityAlreadyExistsException(CustomMessages.BATCH_CONFLICT);
+        }
+        for (Change change : changes) {
+            EmployerDTO before = change.before() == null ? null : toDTO(change.before());
+            EmployerDTO after = change.after() == null ? null : toDTO(change.after());
+            results[change.index()] = BatchOperationResultDTO.builder()
+                    .index(change.index())
+                    .type(change.type())
+                    .status(committed ? BatchOperationResultDTO.Status.APPLIED : BatchOperationResultDTO.Status.ROLLED_BACK)
+                    .employer(committed ? after : null)
+                    .build();
+            if (committed) {
+                long id = change.after() == null ? change.before().getId() : change.after().getId();
+                if (change.type() != BatchOperationDTO.Type.ADD) {
+                    employerJsonCache.evict(id);
+                }
+                auditLog.record(AuditAction.valueOf(change.type().name()), id, before, after);
+            }
+        }
+        return new BatchResultDTO(committed, Arrays.asList(results));
+    }
+
+    // Returns why the operation cannot be applied, or records its change and returns null
+    private String plan(int index, BatchOperationDTO operation, Map<Long, Employer> employers,
+                        Map<String, Long> emailOwners, List<Change> changes) {
+        EmployerDTO employer = operation.getEmployer();
+        if (operation.getType() != BatchOperationDTO.Type.ADD && operation.getId() == null) {
+            return CustomMessages.BATCH_ID_REQUIRED;
+        }
+        if (operation.getType() != BatchOperationDTO.Type.DELETE && employer == null) {
+            return CustomMessages.BATCH_EMPLOYER_REQUIRED;
+        }
+        switch (operation.getType()) {
+            case ADD -> {
+                if (emailOwners.containsKey(Emails.key(employer.getEmail()))) {
+                    return CustomMessages.employerAlreadyExists(employer.getEmail());
+                }
+                //Rows added by the batch have no id yet, they own their email under a negative placeholder
+                emailOwners.put(Emails.key(employer.getEmail()), -1L - index);
+                changes.add(new Change(index, operation.getType(), null, toEntity(employer, 0)));
+            }
+            case UPDATE -> {
+                Employer current = employers.get(operation.getId());
+                if (current == null) {
+                    return CustomMessages.EMPLOYER_NOT_FOUND;
+                }
+                if (!Emails.key(current.getEmail()).equals(Emails.key(employer.getEmail()))
+                        && emailOwners.containsKey(Emails.key(employer.getEmail()))) {
+                    return CustomMessages.employerAlreadyExists(employer.getEmail());
+                }
+                Employer updated = toEntity(employer, current.getId());
+                emailOwners.remove(Emails.key(current.getEmail()));
+                emailOwners.put(Emails.key(updated.getEmail()), updated.getId());
+                employers.put(updated.getId(), updated);
+                changes.add(new Change(index, operation.getType(), current, updated));
+            }
+            case DELETE -> {
+                Employer current = employers.remove(operation.getId());
+                if (current == null) {
+                    return CustomMessages.EMPLOYER_NOT_FOUND;
+                }
+                emailOwners.remove(Emails.key(current.getEmail()));
+                changes.add(new Change(index, operation.getType(), current, null));
+            }
+        }
+        return null;
+    }
+
+    private Map<Long, Employer> lockEmployers(List<BatchOperationDTO> operations) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (BatchOperationDTO operation : operations) {
+            if (operation.getType() != BatchOperationDTO.Type.ADD && operation.getId() != null) {
+                ids.add(operation.getId());
+            }
+        }
+        Map<Long, Employer> employers = new HashMap<>();
+        if (!ids.isEmpty()) {
+            jdbcTemplate.query(String.format(SELECT_EMPLOYERS_FOR_UPDATE, placeholders(ids)), rs -> {
+                Employer employer = Employer.builder()
+                        .id(rs.getLong("id"))
+                        .name(rs.getString("name"))
+                        .email(rs.getString("email"))
+                        .position(rs.getString("position"))
+                        .build();
+                employers.put(employer.getId(), employer);
+            }, ids.toArray());
+        }
+        return employers;
+    }
+
+    private Map<String, Long> emailOwners(List<BatchOperationDTO> operations) {
+        Set<String> emails = new LinkedHashSet<>();
+        for (BatchOperationDTO operation : operations) {
+            if (operation.getType() != BatchOperationDTO.Type.DELETE && operation.getEmployer() != null) {
+                emails.add(operation.getEmployer().getEmail());
+            }
+        }
+        Map<String, Long> owners = new HashMap<>();
+        if (!emails.isEmpty()) {
+            jdbcTemplate.query(String.format(SELECT_EMAIL_OWNERS, placeholders(emails)), rs -> {
+                owners.put(Emails.key(rs.getString("email")), rs.getLong("id"));
+            }, emails.toArray());
+        }
+        return owners;
+    }
+
+    private void write(List<Change> changes) {
+        int start = 0;
+        while (start < changes.size()) {
+            BatchOperationDTO.Type type = changes.get(start).type();
+            int end = start + 1;
+            while (end < changes.size() && changes.get(end).type() == type) {
+                end++;
+            }
+            List<Change> run = changes.subList(start, end);
+            switch (type) {
+                case ADD -> insert(run);
+                case UPDATE -> jdbcTemplate.batchUpdate(UPDATE_EMPLOYER, run.stream()
+                        .map(change -> new Object[]{change.after().getName(), change.after().getEmail(),
+                                change.after().getPosition(), change.after().getId()})
+                        .toList());
+                case DELETE -> jdbcTemplate.batchUpdate(DELETE_EMPLOYER, run.stream()
+                        .map(change -> new Object[]{change.before().getId()})
+                        .toList());
+            }
+            start = end;
+        }
+    }
+
+    private void insert(List<Change> run) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_EMPLOYER, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Employer employer = run.get(i).after();
+                        ps.setString(1, employer.getName());
+                        ps.setString(2, employer.getEmail());
+                        ps.setString(3, employer.getPosition());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return run.size();
+                    }
+                }, keys);
+        List<Map<String, Object>> generated = keys.getKeyList();
+        for (int i = 0; i < run.size(); i++) {
+            Number id = (Number) generated.get(i).values().iterator().next();
+            run.get(i).after().setId(Objects.requireNonNull(id).longValue());
+        }
+    }
+
+    private static String placeholders(Collection<?> values) {
+        return String.join(", ", Collections.nCopies(values.size(), "?"));
+    }
+
+    private static BatchOperationResultDTO failure(int index, BatchOperationDTO.Type type, String error) {
+        return BatchOperationResultDTO.builder()
+                .index(index)
+                .type(type)
+                .status(BatchOperationResultDTO.Status.FAILED)
+                .error(error)
+                .build();
+    }
+
+    private static Employer toEntity(EmployerDTO employer, long id) {
+        return Employer.builder()
+                .id(id)
+                .name(employer.getName())
+                .email(employer.getEmail())
+                .position(employer.getPosition())
+                .build();
+    }
+
+    private static EmployerDTO toDTO(Employer employer) {
+        return EmployerDTO.builder()
+                .id(employer.getId())
+                .name(employer.getName())
+                .email(employer.getEmail())
+                .position(employer.getPosition())
+                .build();
+    }
+
+}
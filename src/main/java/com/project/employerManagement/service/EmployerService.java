@@ -1,5 +1,8 @@
 package com.project.employerManagement.service;
 
+import com.project.employerManagement.audit.AuditAction;
+import com.project.employerManagement.audit.AuditLog;
+import com.project.employerManagement.cache.EmployerJsonCache;
 import com.project.employerManagement.config.CustomMessages;
 import com.project.employerManagement.exception.EntityAlreadyExistsException;
 import com.project.employerManagement.exception.EntityNotFoundException;
@@ -8,6 +11,8 @@ import com.project.employerManagement.model.entity.Employer;
 import com.project.employerManagement.repository.EmployerRepository;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -20,13 +25,19 @@ public class EmployerService implements IEmployerService {
 
     private final ModelMapper modelMapper;
 
+    private final AuditLog auditLog;
+
+    private final EmployerJsonCache employerJsonCache;
+
     @Override
     public EmployerDTO addEmployer(EmployerDTO employer) {
         Employer employerToSave = modelMapper.map(employer, Employer.class);
         if(emailAlreadyExists(employerToSave.getEmail())) {
             throw new EntityAlreadyExistsException(CustomMessages.employerAlreadyExists(employer.getEmail()));
         }
-        return modelMapper.map(employerRepository.save(employerToSave), EmployerDTO.class);
+        EmployerDTO savedEmployer = modelMapper.map(employerRepository.save(employerToSave), EmployerDTO.class);
+        auditLog.record(AuditAction.ADD, savedEmployer.getId(), null, savedEmployer);
+        return savedEmployer;
     }
 
     @Override
@@ -35,19 +46,24 @@ public class EmployerService implements IEmployerService {
             if(!e.getEmail().equals(employer.getEmail()) && emailAlreadyExists(employer.getEmail())) {
                 throw new EntityAlreadyExistsException(CustomMessages.employerAlreadyExists(employer.getEmail()));
             }
+            EmployerDTO previousEmployer = auditSnapshot(e);
             e.setName(employer.getName());
             e.setEmail(employer.getEmail());
             e.setPosition(employer.getPosition());
-            return modelMapper.map(employerRepository.save(e), EmployerDTO.class);
+            EmployerDTO updatedEmployer = modelMapper.map(employerRepository.save(e), EmployerDTO.class);
+            employerJsonCache.evict(id);
+            auditLog.record(AuditAction.UPDATE, id, previousEmployer, updatedEmployer);
+            return updatedEmployer;
         }).orElseThrow(() -> new EntityNotFoundException(CustomMessages.EMPLOYER_NOT_FOUND));
     }
 
     @Override
     public void deleteEmployer(Long id) {
-        if(!employerRepository.existsById(id)) {
-            throw new EntityNotFoundException(CustomMessages.EMPLOYER_NOT_FOUND);
-        }
+        Employer employer = employerRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException(CustomMessages.EMPLOYER_NOT_FOUND));
         employerRepository.deleteById(id);
+        employerJsonCache.evict(id);
+        auditLog.record(AuditAction.DELETE, id, auditSnapshot(employer), null);
     }
 
     @Override
@@ -62,8 +78,40 @@ public class EmployerService implements IEmployerService {
                 .map(e -> modelMapper.map(e, EmployerDTO.class)).toList();
     }
 
+    @Override
+    public List<EmployerDTO> getEmployersPage(int page, int size) {
+        return employerRepository.findAll(PageRequest.of(page, size, Sort.by("id"))).stream()
+                .map(e -> modelMapper.map(e, EmployerDTO.class)).toList();
+    }
+
+    @Override
+    public byte[] getEmployerJsonById(Long id) {
+        return employerRepository.findById(id).map(employerJsonCache::json)
+                .orElseThrow(() -> new EntityNotFoundException(CustomMessages.EMPLOYER_NOT_FOUND));
+    }
+
+    @Override
+    public byte[] getAllEmployersJson() {
+        return employerJsonCache.jsonArray(employerRepository.findAll());
+    }
+
+    @Override
+    public byte[] getEmployersPageJson(int page, int size) {
+        return employerJsonCache.jsonArray(employerRepository.findAll(PageRequest.of(page, size, Sort.by("id"))).getContent());
+    }
+
     public Boolean emailAlreadyExists(String email) {
         return employerRepository.findByEmail(email).isPresent();
     }
 
+    //Copied by hand: the entity is mutated right after, and the audit log must keep the old values
+    private EmployerDTO auditSnapshot(Employer employer) {
+        return EmployerDTO.builder()
+                .id(employer.getId())
+                .name(employer.getName())
+                .email(employer.getEmail())
+                .position(employer.getPosition())
+                .build();
+    }
+
 }
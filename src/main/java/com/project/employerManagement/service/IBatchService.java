@@ -0,0 +1,10 @@
+package com.project.employerManagement.service;
+
+import com.project.employerManagement.model.dto.BatchRequestDTO;
+import com.project.employerManagement.model.dto.BatchResultDTO;
+
+public interface IBatchService {
+
+    public BatchResultDTO executeBatch(BatchRequestDTO request);
+
+}
@@ -17,4 +17,13 @@ public interface IEmployerService {
 
     public List<EmployerDTO> getAllEmployers();
 
+    public List<EmployerDTO> getEmployersPage(int page, int size);
+
+    //Same representations as above, already encoded as JSON
+    public byte[] getEmployerJsonById(Long id);
+
+    public byte[] getAllEmployersJson();
+
+    public byte[] getEmployersPageJson(int page, int size);
+
 }
@@ -0,0 +1,11 @@
+package com.project.employerManagement.service;
+
+import com.project.employerManagement.model.dto.SnapshotDTO;
+
+public interface ISnapshotService {
+
+    public SnapshotDTO exportSnapshot();
+
+    public SnapshotDTO importSnapshot(String name, boolean replace);
+
+}
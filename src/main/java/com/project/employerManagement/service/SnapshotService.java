@@ -0,0 +1,260 @@
+package com.project.employerManagement.service;
+
+import com.project.employerManagement.config.CustomMessages;
+import com.project.employerManagement.config.SnapshotProperties;
+import com.project.employerManagement.exception.EntityNotFoundException;
+import com.project.employerManagement.exception.InvalidSnapshotException;
+import com.project.employerManagement.model.dto.SnapshotDTO;
+import com.project.employerManagement.model.entity.Employer;
+import com.project.employerManagement.snapshot.EmployerSnapshotReader;
+import com.project.employerManagement.snapshot.EmployerSnapshotWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+// Works on the employer table directly with JDBC: going through Hibernate row by row is exactly
+// what snapshots are meant to avoid. Only available with the default JPA storage.
+@Service
+@ConditionalOnProperty(name = "employer.storage.mode", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SnapshotService implements ISnapshotService {
+
+    private static final String SELECT_EMPLOYERS = "SELECT id, name, email, position FROM employer ORDER BY id";
+
+    private static final String STAGING_PREFIX = "employer_import_";
+
+    private static final String CREATE_STAGING = "CREATE TABLE %s (id BIGINT NOT NULL, name VARCHAR(255), "
+            + "email VARCHAR(255), position VARCHAR(255))";
+
+    private static final String INSERT_STAGING = "INSERT INTO %s (id, name, email, position) VALUES (?, ?, ?, ?)";
+
+    private static final String COPY_STAGING = "INSERT INTO employer (id, name, email, position) "
+            + "SELECT id, name, email, position FROM %s";
+
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    //Connector/J ignores a positive fetch size unless useCursorFetch=true and buffers the whole result
+    //set; this value makes it stream the rows one by one instead
+    private static final int MYSQL_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private static final Pattern SNAPSHOT_NAME = Pattern.compile("[A-Za-z0-9_-][A-Za-z0-9._-]*");
+
+    private static final DateTimeFormatter SNAPSHOT_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmssSSS'Z'")
+            .withZone(ZoneOffset.UTC);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final PlatformTransactionManager transactionManager;
+
+    private final SnapshotProperties properties;
+
+    @Override
+    public SnapshotDTO exportSnapshot() {
+        String name = "employers-" + SNAPSHOT_TIMESTAMP.format(Instant.now()) + ".snap";
+        Path directory = Path.of(properties.getDirectory());
+        Path temporary = directory.resolve(name + ".tmp");
+        try {
+            Files.createDirectories(directory);
+            //Read first: rows added while exporting only raise it, finish() keeps it past every id written
+            long nextId = nextIdentity();
+            EmployerSnapshotWriter writer;
+            long bytes;
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                writer = new EmployerSnapshotWriter(channel);
+                JdbcTemplate streamingTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+                streamingTemplate.setFetchSize(exportFetchSize());
+                streamingTemplate.query(SELECT_EMPLOYERS, rs -> {
+                    try {
+                        writer.write(Employer.builder()
+                                .id(rs.getLong("id"))
+                                .name(rs.getString("name"))
+                                .email(rs.getString("email"))
+                                .position(rs.getString("position"))
+                                .build());
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+                bytes = writer.finish(nextId);
+                channel.force(true);
+            }
+            //Only complete snapshots ever carry the final name
+            Files.move(temporary, directory.resolve(name), StandardCopyOption.ATOMIC_MOVE);
+            return new SnapshotDTO(name, writer.getEmployersWritten(), bytes);
+        } catch (IOException ex) {
+            deleteQuietly(temporary);
+            throw new UncheckedIOException(ex);
+        } catch (RuntimeException ex) {
+            deleteQuietly(temporary);
+            throw ex;
+        }
+    }
+
+    private int exportFetchSize() {
+        return "MySQL".equals(databaseProduct()) ? MYSQL_STREAMING_FETCH_SIZE : EXPORT_FETCH_SIZE;
+    }
+
+    // Blocks are verified first, then split into contiguous ranges loaded by parallel workers into a
+    // staging table, each with its own connection and batched inserts. The employer table is only
+    // touched at the end, in one transaction copying the staging table over: a failed import leaves
+    // it as it was.
+    @Override
+    public SnapshotDTO importSnapshot(String name, boolean replace) {
+        Path path = resolve(name);
+        EmployerSnapshotReader reader;
+        try {
+            reader = EmployerSnapshotReader.open(path);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        reader.verify();
+        //Unique per import so concurrent imports, also from other instances, never share a staging table
+        String staging = STAGING_PREFIX + UUID.randomUUID().toString().replace("-", "");
+        jdbcTemplate.execute(CREATE_STAGING.formatted(staging));
+        try {
+            int workers = Math.max(1, Math.min(properties.getImportThreads(), reader.blockCount()));
+            try (ExecutorService executor = Executors.newFixedThreadPool(workers)) {
+                List<Future<?>> loads = new ArrayList<>(workers);
+                for (int worker = 0; worker < workers; worker++) {
+                    int firstBlock = worker * reader.blockCount() / workers;
+                    int lastBlock = (worker + 1) * reader.blockCount() / workers;
+                    loads.add(executor.submit(() -> loadBlocks(reader, staging, firstBlock, lastBlock)));
+                }
+                for (Future<?> load : loads) {
+                    await(load);
+                }
+            }
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                if (replace) {
+                    jdbcTemplate.update("DELETE FROM employer");
+                }
+                jdbcTemplate.update(COPY_STAGING.formatted(staging));
+            });
+        } finally {
+            jdbcTemplate.execute("DROP TABLE " + staging);
+        }
+        restartIdentity(reader.nextId());
+        return new SnapshotDTO(name, reader.employerCount(), reader.size());
+    }
+
+    private void loadBlocks(EmployerSnapshotReader reader, String staging, int firstBlock, int lastBlock) {
+        String insert = INSERT_STAGING.formatted(staging);
+        List<Object[]> batch = new ArrayList<>(properties.getImportBatchSize());
+        for (int block = firstBlock; block < lastBlock; block++) {
+            for (Employer employer : reader.readBlock(block)) {
+                batch.add(new Object[]{employer.getId(), employer.getName(), employer.getEmail(), employer.getPosition()});
+                if (batch.size() == properties.getImportBatchSize()) {
+                    jdbcTemplate.batchUpdate(insert, batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(insert, batch);
+        }
+    }
+
+    // The imported rows carry their own ids, and the snapshot the id its source would have handed out
+    // next. The identity restarts past all of them and never moves back: an id handed out once, even
+    // to an employer deleted since, must not come back, the audit journal still holds its history.
+    private void restartIdentity(long snapshotNextId) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM employer", Long.class);
+        long nextId = Math.max(Math.max(snapshotNextId, nextIdentity()), maxId == null ? 1 : maxId + 1);
+        switch (String.valueOf(databaseProduct())) {
+            case "H2" -> jdbcTemplate.execute("ALTER TABLE employer ALTER COLUMN id RESTART WITH " + nextId);
+            case "MySQL" -> jdbcTemplate.execute("ALTER TABLE employer AUTO_INCREMENT = " + nextId);
+            default -> {
+            }
+        }
+    }
+
+    // Next value of the id column's identity, 0 where it cannot be read
+    private long nextIdentity() {
+        Long nextId = switch (String.valueOf(databaseProduct())) {
+            case "H2" -> jdbcTemplate.queryForObject("SELECT IDENTITY_BASE FROM INFORMATION_SCHEMA.COLUMNS "
+                    + "WHERE TABLE_SCHEMA = SCHEMA() AND TABLE_NAME = 'EMPLOYER' AND COLUMN_NAME = 'ID'", Long.class);
+            //Both on one connection: without the expiry, MySQL 8 answers from statistics cached for a day
+            case "MySQL" -> jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SET SESSION information_schema_stats_expiry = 0");
+                    try (ResultSet rs = statement.executeQuery("SELECT AUTO_INCREMENT FROM information_schema.TABLES "
+                            + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'employer'")) {
+                        return rs.next() ? rs.getLong(1) : null;
+                    }
+                }
+            });
+            default -> null;
+        };
+        return nextId == null ? 0 : nextId;
+    }
+
+    private String databaseProduct() {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException ex) {
+            return null;
+        }
+    }
+
+    private Path resolve(String name) {
+        if (!SNAPSHOT_NAME.matcher(name).matches()) {
+            throw new InvalidSnapshotException(CustomMessages.INVALID_SNAPSHOT_NAME);
+        }
+        Path path = Path.of(properties.getDirectory()).resolve(name);
+        if (!Files.isRegularFile(path)) {
+            throw new EntityNotFoundException(CustomMessages.SNAPSHOT_NOT_FOUND);
+        }
+        return path;
+    }
+
+    private static void await(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while importing snapshot", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            //The export already failed, the leftover temporary file is harmless
+        }
+    }
+
+}
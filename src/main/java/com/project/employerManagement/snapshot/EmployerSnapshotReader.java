@@ -0,0 +1,136 @@
+package com.project.employerManagement.snapshot;
+
+import com.project.employerManagement.config.CustomMessages;
+import com.project.employerManagement.exception.InvalidSnapshotException;
+import com.project.employerManagement.model.entity.Employer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+// Memory-maps a snapshot written by EmployerSnapshotWriter. Blocks are decoded with absolute reads
+// on slices of the mapping, so readBlock can be called from several threads at once.
+public class EmployerSnapshotReader {
+
+    private final MappedByteBuffer file;
+
+    private final String[] positions;
+
+    private final long[] blockOffsets;
+
+    private final long nextId;
+
+    private EmployerSnapshotReader(MappedByteBuffer file, String[] positions, long[] blockOffsets, long nextId) {
+        this.file = file;
+        this.positions = positions;
+        this.blockOffsets = blockOffsets;
+        this.nextId = nextId;
+    }
+
+    public static EmployerSnapshotReader open(Path path) throws IOException {
+        MappedByteBuffer file;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new InvalidSnapshotException(CustomMessages.corruptedSnapshot("files over 2 GiB are not supported"));
+            }
+            if (channel.size() < SnapshotFormat.HEADER_SIZE + SnapshotFormat.FOOTER_SIZE) {
+                throw new InvalidSnapshotException(CustomMessages.corruptedSnapshot("file is truncated"));
+            }
+            file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        int footer = file.capacity() - SnapshotFormat.FOOTER_SIZE;
+        if (file.getInt(0) != SnapshotFormat.MAGIC || file.getInt(footer + 24) != SnapshotFormat.FOOTER_MAGIC) {
+            throw new InvalidSnapshotException(CustomMessages.corruptedSnapshot("not a snapshot file"));
+        }
+        if (file.getInt(4) != SnapshotFormat.VERSION) {
+            throw new InvalidSnapshotException(CustomMessages.corruptedSnapshot("unsupported version " + file.getInt(4)));
+        }
+        try {
+            int dictionaryOffset = (int) file.getLong(footer);
+            ByteBuffer dictionary = file.slice(dictionaryOffset, footer - dictionaryOffset);
+            String[] positions = new String[(int) SnapshotFormat.getVarLong(dictionary)];
+            for (int i = 0; i < positions.length; i++) {
+                positions[i] = SnapshotFormat.getString(dictionary);
+            }
+            int indexOffset = (int) file.getLong(footer + 8);
+            ByteBuffer index = file.slice(indexOffset, footer - indexOffset);
+            long[] blockOffsets = new long[(int) SnapshotFormat.getVarLong(index)];
+            for (int i = 0; i < blockOffsets.length; i++) {
+                blockOffsets[i] = index.getLong();
+            }
+            return new EmployerSnapshotReader(file, positions, blockOffsets, file.getLong(footer + 16));
+        } catch (RuntimeException ex) {
+            throw new InvalidSnapshotException(CustomMessages.corruptedSnapshot("unreadable dictionary or index"));
+        }
+    }
+
+    public int blockCount() {
+        return blockOffsets.length;
+    }
+
+    public long employerCount() {
+        long count = 0;
+        for (long offset : blockOffsets) {
+            count += file.getInt((int) offset + 4);
+        }
+        return count;
+    }
+
+    public long nextId() {
+        return nextId;
+    }
+
+    public long size() {
+        return file.capacity();
+    }
+
+    // Checks every block checksum without decoding, so a damaged file is rejected before anything is loaded
+    public void verify() {
+        for (int i = 0; i < blockOffsets.length; i++) {
+            payload(i);
+        }
+    }
+
+    public List<Employer> readBlock(int blockIndex) {
+        ByteBuffer payload = payload(blockIndex);
+        int count = file.getInt((int) blockOffsets[blockIndex] + 4);
+        List<Employer> employers = new ArrayList<>(count);
+        long id = 0;
+        try {
+            for (int i = 0; i < count; i++) {
+                id += SnapshotFormat.unZigZag(SnapshotFormat.getVarLong(payload));
+                String name = SnapshotFormat.getString(payload);
+                String email = SnapshotFormat.getString(payload);
+                int positionCode = (int) SnapshotFormat.getVarLong(payload);
+                employers.add(Employer.builder()
+                        .id(id)
+                        .name(name)
+                        .email(email)
+                        .position(positionCode == 0 ? null : positions[positionCode - 1])
+                        .build());
+            }
+        } catch (RuntimeException ex) {
+            throw new InvalidSnapshotException(CustomMessages.corruptedSnapshot("undecodable block " + blockIndex));
+        }
+        return employers;
+    }
+
+    private ByteBuffer payload(int blockIndex) {
+        int offset = (int) blockOffsets[blockIndex];
+        int length = file.getInt(offset);
+        if (length < 0 || offset + SnapshotFormat.BLOCK_HEADER_SIZE + length > file.capacity()) {
+            throw new InvalidSnapshotException(CustomMessages.corruptedSnapshot("block " + blockIndex + " is truncated"));
+        }
+        ByteBuffer payload = file.slice(offset + SnapshotFormat.BLOCK_HEADER_SIZE, length);
+        if (SnapshotFormat.checksum(payload.duplicate()) != file.getInt(offset + 8)) {
+            throw new InvalidSnapshotException(CustomMessages.corruptedSnapshot("checksum mismatch in block " + blockIndex));
+        }
+        return payload;
+    }
+
+}
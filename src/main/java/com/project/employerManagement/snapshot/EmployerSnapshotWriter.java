@@ -0,0 +1,135 @@
+package com.project.employerManagement.snapshot;
+
+import com.project.employerManagement.model.entity.Employer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Streams employers into a snapshot one block at a time, so memory use does not grow with the table.
+// See SnapshotFormat for the layout. Not thread safe.
+public class EmployerSnapshotWriter {
+
+    private final WritableByteChannel channel;
+
+    private final Map<String, Integer> positionCodes = new LinkedHashMap<>();
+
+    private final List<Long> blockOffsets = new ArrayList<>();
+
+    private final ByteBuffer blockHeader = ByteBuffer.allocate(SnapshotFormat.BLOCK_HEADER_SIZE);
+
+    private ByteBuffer block = ByteBuffer.allocate(2 * SnapshotFormat.TARGET_BLOCK_SIZE);
+
+    private int blockEmployers;
+
+    private long previousId;
+
+    private long maxId;
+
+    private long bytesWritten;
+
+    private long employersWritten;
+
+    public EmployerSnapshotWriter(WritableByteChannel channel) throws IOException {
+        this.channel = channel;
+        ByteBuffer header = ByteBuffer.allocate(SnapshotFormat.HEADER_SIZE)
+                .putInt(SnapshotFormat.MAGIC)
+                .putInt(SnapshotFormat.VERSION)
+                .flip();
+        writeFully(header);
+    }
+
+    public void write(Employer employer) throws IOException {
+        reserve(20 + SnapshotFormat.maxStringSize(employer.getName()) + SnapshotFormat.maxStringSize(employer.getEmail()));
+        SnapshotFormat.putVarLong(block, SnapshotFormat.zigZag(employer.getId() - previousId));
+        SnapshotFormat.putString(block, employer.getName());
+        SnapshotFormat.putString(block, employer.getEmail());
+        SnapshotFormat.putVarLong(block, positionCode(employer.getPosition()));
+        previousId = employer.getId();
+        maxId = Math.max(maxId, employer.getId());
+        blockEmployers++;
+        employersWritten++;
+        if (block.position() >= SnapshotFormat.TARGET_BLOCK_SIZE) {
+            flushBlock();
+        }
+    }
+
+    // Writes the last block, the position dictionary, the block index and the footer, recording the
+    // id following the largest one written as next id. Returns the total size of the snapshot in bytes.
+    public long finish() throws IOException {
+        return finish(maxId + 1);
+    }
+
+    // As finish(), for a source that has already handed out ids past the ones written
+    public long finish(long nextId) throws IOException {
+        flushBlock();
+        long dictionaryOffset = bytesWritten;
+        int dictionarySize = 10 + positionCodes.keySet().stream().mapToInt(SnapshotFormat::maxStringSize).sum();
+        ByteBuffer dictionary = ByteBuffer.allocate(dictionarySize);
+        SnapshotFormat.putVarLong(dictionary, positionCodes.size());
+        positionCodes.keySet().forEach(position -> SnapshotFormat.putString(dictionary, position));
+        writeFully(dictionary.flip());
+
+        long indexOffset = bytesWritten;
+        ByteBuffer index = ByteBuffer.allocate(10 + 8 * blockOffsets.size());
+        SnapshotFormat.putVarLong(index, blockOffsets.size());
+        blockOffsets.forEach(index::putLong);
+        writeFully(index.flip());
+
+        ByteBuffer footer = ByteBuffer.allocate(SnapshotFormat.FOOTER_SIZE)
+                .putLong(dictionaryOffset)
+                .putLong(indexOffset)
+                .putLong(Math.max(nextId, maxId + 1))
+                .putInt(SnapshotFormat.FOOTER_MAGIC)
+                .flip();
+        writeFully(footer);
+        return bytesWritten;
+    }
+
+    public long getEmployersWritten() {
+        return employersWritten;
+    }
+
+    private int positionCode(String position) {
+        if (position == null) {
+            return 0;
+        }
+        return positionCodes.computeIfAbsent(position, p -> positionCodes.size()) + 1;
+    }
+
+    private void reserve(int bytes) {
+        if (block.remaining() < bytes) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(2 * block.capacity(), block.position() + bytes));
+            block = larger.put(block.flip());
+        }
+    }
+
+    private void flushBlock() throws IOException {
+        if (blockEmployers == 0) {
+            return;
+        }
+        block.flip();
+        blockOffsets.add(bytesWritten);
+        blockHeader.clear()
+                .putInt(block.remaining())
+                .putInt(blockEmployers)
+                .putInt(SnapshotFormat.checksum(block.duplicate()))
+                .flip();
+        writeFully(blockHeader);
+        writeFully(block);
+        block.clear();
+        blockEmployers = 0;
+        previousId = 0;
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            bytesWritten += channel.write(buffer);
+        }
+    }
+
+}
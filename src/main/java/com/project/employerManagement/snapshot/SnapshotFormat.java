@@ -0,0 +1,91 @@
+package com.project.employerManagement.snapshot;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+// Snapshot file layout (all integers big endian):
+//   header     int magic "EMPS" | int version
+//   blocks     int payload length | int employer count | int CRC32 of payload | payload
+//   dictionary varint count | position strings
+//   index      varint count | long offset of every block
+//   footer     long dictionary offset | long index offset | long next id | int magic "SPME"
+// A block payload holds its employers as: zigzag varint id delta (from the previous id in the block)
+// | string name | string email | varint position code (0 for null, otherwise dictionary index + 1).
+// Strings are a varint of byte length + 1 (0 for null) followed by UTF-8 bytes.
+// Blocks only depend on the dictionary, so they can be decoded independently and in parallel.
+// The next id is the first id the writer's source had not handed out yet, which can be past the
+// largest id in the file when the newest employers were deleted.
+final class SnapshotFormat {
+
+    static final int MAGIC = 0x454D5053;
+    static final int FOOTER_MAGIC = 0x53504D45;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 8;
+    static final int BLOCK_HEADER_SIZE = 12;
+    static final int FOOTER_SIZE = 28;
+    static final int TARGET_BLOCK_SIZE = 64 * 1024;
+
+    private SnapshotFormat() {
+    }
+
+    static int checksum(ByteBuffer payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static long getVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    //Worst case size of an encoded string, used to reserve room before writing it
+    static int maxStringSize(String value) {
+        return 10 + (value == null ? 0 : value.length() * 3);
+    }
+
+    static void putString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.put((byte) 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        putVarLong(buffer, bytes.length + 1L);
+        buffer.put(bytes);
+    }
+
+    static String getString(ByteBuffer buffer) {
+        int length = (int) getVarLong(buffer) - 1;
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.project.employerManagement.util;
+
+import java.util.Locale;
+
+// Emails are unique regardless of case in every storage backend, as under the case-insensitive unique
+// key of the JPA storage on MySQL. Anything indexing, routing or comparing emails goes through key().
+public final class Emails {
+
+    private Emails() {
+    }
+
+    public static String key(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+}
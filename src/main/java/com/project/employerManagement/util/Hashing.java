@@ -0,0 +1,20 @@
+package com.project.employerManagement.util;
+
+// Shared by every place that derives a persistent layout from a hash, like the shard of a row or the
+// bits of an audit block filter: changing it moves data, so there must be exactly one copy.
+public final class Hashing {
+
+    private Hashing() {
+    }
+
+    //MurmurHash3 finalizer (fmix64): every input bit affects every output bit
+    public static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+}
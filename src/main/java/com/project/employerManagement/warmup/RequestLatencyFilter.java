@@ -0,0 +1,90 @@
+package com.project.employerManagement.warmup;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.event.EventListener;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Measures the first requests served once the application reports ready, the ones a cold start
+// slows down. Only that many samples are kept; their p99 is logged when the last one is in and can
+// be read from /api/readiness at any time. Readiness probes are not measured.
+@Slf4j
+public class RequestLatencyFilter extends OncePerRequestFilter {
+
+    public static final String READINESS_PATH = "/api/readiness";
+
+    private final AtomicLongArray samples;
+
+    private final AtomicInteger recorded = new AtomicInteger();
+
+    private volatile boolean ready;
+
+    public RequestLatencyFilter(int sampleSize) {
+        this.samples = new AtomicLongArray(sampleSize);
+    }
+
+    @EventListener
+    public void onReadinessChange(AvailabilityChangeEvent<ReadinessState> event) {
+        ready = event.getState() == ReadinessState.ACCEPTING_TRAFFIC;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!ready || recorded.get() >= samples.length() || request.getRequestURI().equals(READINESS_PATH)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            record(System.nanoTime() - start);
+        }
+    }
+
+    void record(long nanos) {
+        int index = recorded.getAndIncrement();
+        if (index >= samples.length()) {
+            return;
+        }
+        samples.set(index, nanos);
+        if (index == samples.length() - 1) {
+            log.info("p99 latency of the first {} requests after startup: {} ms", samples.length(), toMillis(percentile(0.99)));
+        }
+    }
+
+    public int getRequestsMeasured() {
+        return Math.min(recorded.get(), samples.length());
+    }
+
+    // Null until a request has been measured
+    public Duration percentile(double percentile) {
+        int measured = getRequestsMeasured();
+        if (measured == 0) {
+            return null;
+        }
+        long[] sorted = new long[measured];
+        for (int i = 0; i < measured; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        return Duration.ofNanos(sorted[Math.max(0, (int) Math.ceil(percentile * measured) - 1)]);
+    }
+
+    public static Double toMillis(Duration duration) {
+        return duration == null ? null : duration.toNanos() / 1_000_000.0;
+    }
+
+}
@@ -0,0 +1,221 @@
+package com.project.employerManagement.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.employerManagement.cache.EmployerJsonCache;
+import com.project.employerManagement.config.WarmUpProperties;
+import com.project.employerManagement.exception.EntityNotFoundException;
+import com.project.employerManagement.model.dto.EmployerDTO;
+import com.project.employerManagement.model.entity.Employer;
+import com.project.employerManagement.repository.sharded.ShardedEmployerRepository;
+import com.project.employerManagement.service.EmployerService;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Runs the hot paths before the application takes traffic. Spring Boot only reports
+// ReadinessState.ACCEPTING_TRAFFIC once every ApplicationRunner has returned, so /api/readiness
+// answers 503 until this is done. Steps:
+//   - open connections so the pools, every shard's in sharded mode, are full before the first request needs one
+//   - map and encode a synthetic employer until the JIT has compiled ModelMapper, Jackson and the JSON cache
+//   - run the service read paths against the real data
+//   - reload the employers the previous instance read most, if enabled
+// A failing step is logged and skipped: warm-up only makes the first requests faster. The hits its
+// reads leave in the JSON cache are reset at the end, otherwise the first page would always rank as
+// the hottest employers. Nothing runs without a web server, like in the one-off rebalance mode.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WarmUp implements ApplicationRunner, DisposableBean {
+
+    private static final long SYNTHETIC_ID = -1;
+
+    private static final int PAGE_SIZE = 20;
+
+    private final WarmUpProperties properties;
+
+    private final EmployerService employerService;
+
+    private final EmployerJsonCache employerJsonCache;
+
+    private final ModelMapper modelMapper;
+
+    private final ObjectMapper objectMapper;
+
+    private final ObjectProvider<DataSource> dataSource;
+
+    private final ObjectProvider<ShardedEmployerRepository> shardedEmployerRepository;
+
+    private final ApplicationContext applicationContext;
+
+    private volatile Duration duration;
+
+    private volatile int preloadedEmployers;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!isActive()) {
+            return;
+        }
+        long start = System.nanoTime();
+        step("connection pools", this::primeConnectionPools);
+        step("mapping", this::exerciseMapping);
+        step("reads", this::exerciseReads);
+        step("hot employers", this::preloadHotEmployers);
+        employerJsonCache.resetHits();
+        duration = Duration.ofNanos(System.nanoTime() - start);
+        log.info("Warm-up finished in {} ms, {} hot employers preloaded", duration.toMillis(), preloadedEmployers);
+    }
+
+    // Null until warm-up has finished, and when it is disabled
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public int getPreloadedEmployers() {
+        return preloadedEmployers;
+    }
+
+    // Remembers the most read employers for the next start, hottest first
+    @Override
+    public void destroy() {
+        if (!isActive() || properties.getPreloadEmployers() <= 0) {
+            return;
+        }
+        Path file = Path.of(properties.getHotEmployersFile());
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, Arrays.stream(employerJsonCache.hottestIds(properties.getPreloadEmployers()))
+                    .mapToObj(Long::toString)
+                    .toList());
+        } catch (IOException ex) {
+            log.warn("Could not write hot employers to {}", file, ex);
+        }
+    }
+
+    private boolean isActive() {
+        return properties.isEnabled() && applicationContext instanceof WebApplicationContext;
+    }
+
+    private void primeConnectionPools() throws SQLException {
+        List<DataSource> pools = new ArrayList<>();
+        DataSource single = dataSource.getIfUnique();
+        if (single != null) {
+            pools.add(single);
+        }
+        ShardedEmployerRepository sharded = shardedEmployerRepository.getIfAvailable();
+        if (sharded != null) {
+            pools.addAll(sharded.getDataSources());
+        }
+        for (DataSource pool : pools) {
+            primeConnectionPool(pool);
+        }
+    }
+
+    private void primeConnectionPool(DataSource pool) throws SQLException {
+        //Asking for more than the pool holds would block until the connection timeout
+        int count = pool instanceof HikariDataSource hikari
+                ? Math.min(properties.getPoolConnections(), hikari.getMaximumPoolSize())
+                : properties.getPoolConnections();
+        //Hold them all at once, otherwise the pool keeps handing out the same connection
+        List<Connection> connections = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                connections.add(pool.getConnection());
+            }
+        } finally {
+            for (Connection connection : connections) {
+                connection.close();
+            }
+        }
+    }
+
+    private void exerciseMapping() throws IOException {
+        Employer employer = Employer.builder()
+                .id(SYNTHETIC_ID)
+                .name("Warm Up")
+                .email("warm.up@example.com")
+                .position("Warm Up")
+                .build();
+        List<Employer> employers = List.of(employer, employer);
+        try {
+            for (int i = 0; i < properties.getIterations(); i++) {
+                EmployerDTO dto = modelMapper.map(employer, EmployerDTO.class);
+                modelMapper.map(dto, Employer.class);
+                objectMapper.readValue(objectMapper.writeValueAsBytes(dto), EmployerDTO.class);
+                employerJsonCache.jsonArray(employers);
+                employerJsonCache.evict(SYNTHETIC_ID);
+            }
+        } finally {
+            employerJsonCache.evict(SYNTHETIC_ID);
+        }
+    }
+
+    private void exerciseReads() {
+        for (int i = 0; i < properties.getReadIterations(); i++) {
+            List<EmployerDTO> page = employerService.getEmployersPage(0, PAGE_SIZE);
+            employerService.getEmployersPageJson(0, PAGE_SIZE);
+            if (!page.isEmpty()) {
+                employerService.getEmployerById(page.get(0).getId());
+                employerService.getEmployerJsonById(page.get(0).getId());
+            }
+        }
+    }
+
+    private void preloadHotEmployers() throws IOException {
+        Path file = Path.of(properties.getHotEmployersFile());
+        if (properties.getPreloadEmployers() <= 0 || !Files.isRegularFile(file)) {
+            return;
+        }
+        int preloaded = 0;
+        for (String line : Files.readAllLines(file)) {
+            if (preloaded == properties.getPreloadEmployers()) {
+                break;
+            }
+            try {
+                employerService.getEmployerJsonById(Long.parseLong(line.trim()));
+                preloaded++;
+            } catch (NumberFormatException | EntityNotFoundException ignored) {
+                //Deleted since the file was written
+            }
+        }
+        preloadedEmployers = preloaded;
+    }
+
+    private void step(String name, WarmUpStep step) {
+        long start = System.nanoTime();
+        try {
+            step.run();
+            log.debug("Warm-up of {} took {} ms", name, Duration.ofNanos(System.nanoTime() - start).toMillis());
+        } catch (Exception ex) {
+            log.warn("Warm-up of {} failed, skipping it", name, ex);
+        }
+    }
+
+    private interface WarmUpStep {
+
+        void run() throws Exception;
+
+    }
+
+}
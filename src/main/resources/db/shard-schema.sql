@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS employer (
+    id BIGINT NOT NULL PRIMARY KEY,
+    name VARCHAR(255),
+    email VARCHAR(255) NOT NULL,
+    position VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS employer_email_index (
+    email VARCHAR(255) NOT NULL PRIMARY KEY,
+    employer_id BIGINT NOT NULL,
+    claimed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
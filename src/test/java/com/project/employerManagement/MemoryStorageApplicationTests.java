@@ -0,0 +1,37 @@
+package com.project.employerManagement;
+
+import com.project.employerManagement.model.dto.EmployerDTO;
+import com.project.employerManagement.repository.EmployerRepository;
+import com.project.employerManagement.repository.memory.InMemoryEmployerRepository;
+import com.project.employerManagement.service.EmployerService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "employer.memory.directory=target/memory-storage")
+@ActiveProfiles("memory")
+class MemoryStorageApplicationTests {
+
+	@Autowired
+	private EmployerRepository employerRepository;
+
+	@Autowired
+	private EmployerService employerService;
+
+	@Test
+	void contextLoadsWithoutDatabase() {
+		assertInstanceOf(InMemoryEmployerRepository.class, employerRepository);
+
+		EmployerDTO added = employerService.addEmployer(EmployerDTO.builder()
+				.name("John Doe")
+				.email("john-" + System.nanoTime() + "@example.com")
+				.position("Software Engineer")
+				.build());
+
+		assertEquals(added.getEmail(), employerService.getEmployerById(added.getId()).getEmail());
+	}
+
+}
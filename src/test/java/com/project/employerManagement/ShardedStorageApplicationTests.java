@@ -0,0 +1,86 @@
+package com.project.employerManagement;
+
+import com.project.employerManagement.model.dto.EmployerDTO;
+import com.project.employerManagement.repository.EmployerRepository;
+import com.project.employerManagement.repository.sharded.ShardedEmployerRepository;
+import com.project.employerManagement.service.EmployerService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+		"employer.sharding.shards[0].url=jdbc:h2:mem:sharded_application_0;DB_CLOSE_DELAY=-1",
+		"employer.sharding.shards[0].username=sa",
+		"employer.sharding.shards[0].password=",
+		"employer.sharding.shards[0].driver-class-name=org.h2.Driver",
+		"employer.sharding.shards[1].url=jdbc:h2:mem:sharded_application_1;DB_CLOSE_DELAY=-1",
+		"employer.sharding.shards[1].username=sa",
+		"employer.sharding.shards[1].password=",
+		"employer.sharding.shards[1].driver-class-name=org.h2.Driver"
+})
+@ActiveProfiles("sharded")
+class ShardedStorageApplicationTests {
+
+	@Autowired
+	private ApplicationContext context;
+
+	@Autowired
+	private EmployerRepository employerRepository;
+
+	@Autowired
+	private EmployerService employerService;
+
+	@Test
+	void contextLoadsWithShardsOnly() {
+		assertInstanceOf(ShardedEmployerRepository.class, employerRepository);
+		assertEquals(0, context.getBeanNamesForType(DataSource.class).length);
+
+		EmployerDTO added = employerService.addEmployer(EmployerDTO.builder()
+				.name("John Doe")
+				.email("john-" + System.nanoTime() + "@example.com")
+				.position("Software Engineer")
+				.build());
+
+		assertEquals(added.getEmail(), employerService.getEmployerById(added.getId()).getEmail());
+	}
+
+	@Test
+	void rebalanceRefusesToRunNextToTheWebServer() {
+		SpringApplicationBuilder application = new SpringApplicationBuilder(EmployerManagementApplication.class)
+				.profiles("sharded")
+				.web(WebApplicationType.SERVLET);
+
+		Exception exception = assertThrows(Exception.class, () -> application.run("--server.port=0",
+				"--employer.sharding.shards[0].url=jdbc:h2:mem:rebalance_web_0;DB_CLOSE_DELAY=-1",
+				"--employer.sharding.shards[0].username=sa",
+				"--employer.sharding.shards[0].password=",
+				"--employer.sharding.shards[0].driver-class-name=org.h2.Driver",
+				"--employer.sharding.shards[1].url=jdbc:h2:mem:rebalance_web_1;DB_CLOSE_DELAY=-1",
+				"--employer.sharding.shards[1].username=sa",
+				"--employer.sharding.shards[1].password=",
+				"--employer.sharding.shards[1].driver-class-name=org.h2.Driver",
+				"--employer.sharding.rebalance.enabled=true",
+				"--employer.sharding.rebalance.target[0].url=jdbc:h2:mem:rebalance_web_0;DB_CLOSE_DELAY=-1",
+				"--employer.sharding.rebalance.target[0].username=sa",
+				"--employer.sharding.rebalance.target[0].password=",
+				"--employer.sharding.rebalance.target[0].driver-class-name=org.h2.Driver"));
+
+		assertTrue(rootCause(exception).getMessage().contains("without the web server"));
+	}
+
+	private static Throwable rootCause(Throwable throwable) {
+		while (throwable.getCause() != null) {
+			throwable = throwable.getCause();
+		}
+		return throwable;
+	}
+
+}
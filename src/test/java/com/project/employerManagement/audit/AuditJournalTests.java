@@ -0,0 +1,110 @@
+package com.project.employerManagement.audit;
+
+import com.project.employerManagement.model.dto.EmployerDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AuditJournalTests {
+
+    private static final int SEGMENT_SIZE = 4 * AuditJournal.BLOCK_SIZE;
+
+    @TempDir
+    private Path directory;
+
+    private AuditEvent createEvent(long employerId, Instant timestamp) {
+        EmployerDTO employer = EmployerDTO.builder()
+                .id(employerId)
+                .name("John Doe")
+                .email("john" + employerId + "@example.com")
+                .position("Software Engineer")
+                .build();
+        return new AuditEvent(0, timestamp, "tester", AuditAction.ADD, employerId, null, employer);
+    }
+
+    @Test
+    void history_ShouldReturnOnlyEventsOfEmployerInSequenceOrder() {
+
+        AuditJournal journal = new AuditJournal(directory, SEGMENT_SIZE);
+
+        for (int i = 0; i < 10_000; i++) {
+            journal.append(createEvent(i % 100, Instant.now()));
+        }
+
+        List<AuditEvent> history = journal.history(42);
+
+        assertTrue(journal.segmentCount() > 1);
+        assertEquals(100, history.size());
+        assertTrue(history.stream().allMatch(event -> event.employerId() == 42));
+        assertEquals(history.stream().map(AuditEvent::sequence).sorted().toList(),
+                history.stream().map(AuditEvent::sequence).toList());
+        assertEquals("john42@example.com", history.getFirst().after().getEmail());
+        assertNull(history.getFirst().before());
+
+    }
+
+    @Test
+    void history_WhenEveryEventHasDistinctEmployer_ShouldReturnExactlyItsEvent() {
+
+        AuditJournal journal = new AuditJournal(directory, SEGMENT_SIZE);
+
+        for (int i = 0; i < 10_000; i++) {
+            journal.append(createEvent(1_000_000L + i, Instant.now()));
+        }
+
+        assertTrue(journal.segmentCount() > 1);
+        for (int i = 0; i < 10_000; i += 97) {
+            List<AuditEvent> history = journal.history(1_000_000L + i);
+            assertEquals(1, history.size());
+            assertEquals(1_000_000L + i, history.getFirst().employerId());
+        }
+        assertTrue(journal.history(42).isEmpty());
+
+    }
+
+    @Test
+    void reopen_ShouldRecoverEventsAndContinueSequence() {
+
+        AuditJournal journal = new AuditJournal(directory, SEGMENT_SIZE);
+        journal.append(createEvent(1, Instant.now()));
+        journal.append(createEvent(1, Instant.now()));
+        journal.force();
+
+        AuditJournal reopened = new AuditJournal(directory, SEGMENT_SIZE);
+        AuditEvent appended = reopened.append(createEvent(1, Instant.now()));
+
+        assertEquals(3, appended.sequence());
+        assertEquals(3, reopened.history(1).size());
+
+    }
+
+    @Test
+    void compact_ShouldDropExpiredEventsAndKeepActiveSegment() {
+
+        AuditJournal journal = new AuditJournal(directory, SEGMENT_SIZE);
+        Instant old = Instant.now().minus(Duration.ofDays(400));
+        for (int i = 0; i < 5_000; i++) {
+            journal.append(createEvent(i % 10, old));
+        }
+        for (int i = 0; i < 5_000; i++) {
+            journal.append(createEvent(i % 10, Instant.now()));
+        }
+        int historyBefore = journal.history(3).size();
+
+        journal.compact(Instant.now().minus(Duration.ofDays(365)));
+
+        List<AuditEvent> history = journal.history(3);
+        assertEquals(1000, historyBefore);
+        assertEquals(500, history.size());
+        assertTrue(history.stream().allMatch(event -> event.timestamp().isAfter(old)));
+        assertEquals(500, new AuditJournal(directory, SEGMENT_SIZE).history(3).size());
+
+    }
+
+}
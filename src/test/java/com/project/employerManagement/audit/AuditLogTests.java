@@ -0,0 +1,82 @@
+package com.project.employerManagement.audit;
+
+import com.project.employerManagement.config.AuditProperties;
+import com.project.employerManagement.model.dto.EmployerDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AuditLogTests {
+
+    @TempDir
+    private Path directory;
+
+    private AuditLog auditLog;
+
+    @BeforeEach
+    void setUp() {
+        AuditProperties properties = new AuditProperties();
+        properties.setDirectory(directory.toString());
+        properties.setRingCapacity(64);
+        auditLog = new AuditLog(properties);
+        auditLog.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        auditLog.destroy();
+    }
+
+    private EmployerDTO createEmployerDTO(String email) {
+        return EmployerDTO.builder()
+                .id(1L)
+                .name("John Doe")
+                .email(email)
+                .position("Software Engineer")
+                .build();
+    }
+
+    @Test
+    void record_ShouldBeReadBackInHistoryAfterFlush() {
+
+        EmployerDTO added = createEmployerDTO("john@example.com");
+        EmployerDTO updated = createEmployerDTO("danny@example.com");
+
+        auditLog.record(AuditAction.ADD, 1L, null, added);
+        auditLog.record(AuditAction.UPDATE, 1L, added, updated);
+        auditLog.record(AuditAction.DELETE, 1L, updated, null);
+        auditLog.flush();
+
+        List<AuditEvent> history = auditLog.history(1L);
+
+        assertEquals(List.of(AuditAction.ADD, AuditAction.UPDATE, AuditAction.DELETE),
+                history.stream().map(AuditEvent::action).toList());
+        assertEquals("john@example.com", history.get(1).before().getEmail());
+        assertEquals("danny@example.com", history.get(1).after().getEmail());
+        assertEquals("anonymous", history.getFirst().actor());
+
+    }
+
+    @Test
+    void record_WhenManyThreadsOverflowRing_ShouldKeepEveryEvent() throws Exception {
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            IntStream.range(0, 8_000).forEach(i -> executor.submit(() ->
+                    auditLog.record(AuditAction.ADD, i % 8, null, createEmployerDTO("john" + i + "@example.com"))));
+        }
+        auditLog.flush();
+
+        assertEquals(8_000, IntStream.range(0, 8).map(id -> auditLog.history(id).size()).sum());
+
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.project.employerManagement.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.employerManagement.config.EmployerCacheProperties;
+import com.project.employerManagement.model.dto.EmployerDTO;
+import com.project.employerManagement.model.entity.Employer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployerJsonCacheTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private EmployerCacheProperties properties;
+
+    private EmployerJsonCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EmployerCacheProperties();
+        cache = new EmployerJsonCache(objectMapper, properties);
+    }
+
+    private Employer createEmployer(long id, String email) {
+        return Employer.builder()
+                .id(id)
+                .name("John Doe")
+                .email(email)
+                .position("Software Engineer")
+                .build();
+    }
+
+    private EmployerDTO toDTO(Employer employer) {
+        return EmployerDTO.builder()
+                .id(employer.getId())
+                .name(employer.getName())
+                .email(employer.getEmail())
+                .position(employer.getPosition())
+                .build();
+    }
+
+    @Test
+    void json_ShouldMatchJacksonEncodingOfEmployerDTO() throws Exception {
+
+        Employer employer = createEmployer(1, "john@example.com");
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(toDTO(employer)), cache.json(employer));
+
+    }
+
+    @Test
+    void json_WhenEmployerIsUnchanged_ShouldReuseEncodedBytes() {
+
+        byte[] first = cache.json(createEmployer(1, "john@example.com"));
+
+        //A fresh instance with the same values, as a new read from storage would return
+        assertSame(first, cache.json(createEmployer(1, "john@example.com")));
+
+    }
+
+    @Test
+    void json_WhenEmployerChanged_ShouldEncodeAgain() throws Exception {
+
+        byte[] first = cache.json(createEmployer(1, "john@example.com"));
+
+        Employer changed = createEmployer(1, "danny@example.com");
+
+        byte[] second = cache.json(changed);
+
+        assertNotSame(first, second);
+        assertArrayEquals(objectMapper.writeValueAsBytes(toDTO(changed)), second);
+
+    }
+
+    @Test
+    void evict_ShouldDropEncodedBytes() {
+
+        Employer employer = createEmployer(1, "john@example.com");
+
+        byte[] first = cache.json(employer);
+        cache.evict(1);
+
+        assertEquals(0, cache.size());
+        assertNotSame(first, cache.json(employer));
+
+    }
+
+    @Test
+    void jsonArray_ShouldMatchJacksonEncodingOfDTOList() throws Exception {
+
+        List<Employer> employers = List.of(createEmployer(1, "john@example.com"), createEmployer(2, "danny@example.com"));
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(employers.stream().map(this::toDTO).toList()), cache.jsonArray(employers));
+        assertArrayEquals("[]".getBytes(), cache.jsonArray(List.of()));
+
+    }
+
+    @Test
+    void json_WhenCacheIsFull_ShouldNotGrowPastMaxEntries() {
+
+        properties.setMaxEntries(2);
+
+        for (int id = 1; id <= 5; id++) {
+            cache.json(createEmployer(id, "john" + id + "@example.com"));
+        }
+
+        assertEquals(2, cache.size());
+
+    }
+
+    @Test
+    void json_WhenCacheIsFull_ShouldEvictLeastRecentlyUsedEmployer() {
+
+        properties.setMaxEntries(3);
+        byte[] first = cache.json(createEmployer(1, "john1@example.com"));
+        byte[] second = cache.json(createEmployer(2, "john2@example.com"));
+        byte[] third = cache.json(createEmployer(3, "john3@example.com"));
+        cache.json(createEmployer(1, "john1@example.com"));
+
+        cache.json(createEmployer(4, "john4@example.com"));
+
+        assertEquals(3, cache.size());
+        assertSame(first, cache.json(createEmployer(1, "john1@example.com")));
+        assertSame(third, cache.json(createEmployer(3, "john3@example.com")));
+        assertNotSame(second, cache.json(createEmployer(2, "john2@example.com")));
+
+    }
+
+    @Test
+    void hottestIds_ShouldRankByHitsThenRecency() {
+
+        cache.json(createEmployer(1, "john1@example.com"));
+        cache.json(createEmployer(2, "john2@example.com"));
+        cache.json(createEmployer(3, "john3@example.com"));
+        for (int i = 0; i < 3; i++) {
+            cache.json(createEmployer(3, "john3@example.com"));
+        }
+        cache.json(createEmployer(1, "john1@example.com"));
+
+        assertArrayEquals(new long[]{3, 1}, cache.hottestIds(2));
+        assertArrayEquals(new long[]{3, 1, 2}, cache.hottestIds(10));
+
+    }
+
+}
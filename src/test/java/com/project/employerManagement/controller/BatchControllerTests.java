@@ -0,0 +1,110 @@
+package com.project.employerManagement.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.employerManagement.config.CustomMessages;
+import com.project.employerManagement.model.dto.BatchOperationDTO;
+import com.project.employerManagement.model.dto.BatchOperationResultDTO;
+import com.project.employerManagement.model.dto.BatchRequestDTO;
+import com.project.employerManagement.model.dto.BatchResultDTO;
+import com.project.employerManagement.model.dto.EmployerDTO;
+import com.project.employerManagement.service.BatchService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = BatchController.class)
+@AutoConfigureMockMvc(addFilters = false)
+public class BatchControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private BatchService batchService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private BatchRequestDTO createBatchRequestDTO() {
+        return BatchRequestDTO.builder()
+                .operations(List.of(new BatchOperationDTO(BatchOperationDTO.Type.ADD, null, EmployerDTO.builder()
+                        .name("John Doe")
+                        .email("john@example.com")
+                        .position("Software Engineer")
+                        .build())))
+                .build();
+    }
+
+    private BatchResultDTO createBatchResultDTO(boolean committed, BatchOperationResultDTO.Status status) {
+        return new BatchResultDTO(committed, List.of(BatchOperationResultDTO.builder()
+                .index(0)
+                .type(BatchOperationDTO.Type.ADD)
+                .status(status)
+                .build()));
+    }
+
+    @Test
+    void executeBatch_WhenCommitted_ShouldReturnOkWithResults() throws Exception {
+
+        when(batchService.executeBatch(any(BatchRequestDTO.class)))
+                .thenReturn(createBatchResultDTO(true, BatchOperationResultDTO.Status.APPLIED));
+
+        mockMvc.perform(post("/api/employers/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createBatchRequestDTO())))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.committed").value(true))
+                .andExpect(jsonPath("$.results[0].status").value("APPLIED"));
+
+        verify(batchService, times(1)).executeBatch(any(BatchRequestDTO.class));
+
+    }
+
+    @Test
+    void executeBatch_WhenNothingWasCommitted_ShouldReturnBadRequestWithResults() throws Exception {
+
+        when(batchService.executeBatch(any(BatchRequestDTO.class)))
+                .thenReturn(createBatchResultDTO(false, BatchOperationResultDTO.Status.FAILED));
+
+        mockMvc.perform(post("/api/employers/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createBatchRequestDTO())))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.committed").value(false))
+                .andExpect(jsonPath("$.results[0].status").value("FAILED"));
+
+    }
+
+    @Test
+    void executeBatch_WhenOperationIsInvalid_ShouldReturnBadRequest() throws Exception {
+
+        BatchRequestDTO request = createBatchRequestDTO();
+        request.getOperations().get(0).getEmployer().setEmail("");
+
+        mockMvc.perform(post("/api/employers/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("operations[0].employer.email: " + CustomMessages.EMAIL_NOT_EMPTY));
+
+        verifyNoInteractions(batchService);
+
+    }
+
+}
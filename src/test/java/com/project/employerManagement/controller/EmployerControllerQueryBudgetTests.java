@@ -0,0 +1,231 @@
+package com.project.employerManagement.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.employerManagement.model.dto.EmployerDTO;
+import com.project.employerManagement.model.entity.Employer;
+import com.project.employerManagement.repository.EmployerRepository;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Runs every EmployerController endpoint against the embedded database and counts the SQL
+// statements Hibernate issues for it. A request going over its budget fails the build; a report
+// of every request and its statements is printed after the run. Lower a budget when a change
+// saves queries, never raise one without a reason.
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:query_budget;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+public class EmployerControllerQueryBudgetTests {
+
+    private static final Map<String, List<String>> REPORT = new TreeMap<>();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmployerRepository employerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private QueryRecorder queryRecorder;
+
+    @TestConfiguration
+    static class QueryRecorderConfig {
+
+        @Bean
+        QueryRecorder queryRecorder() {
+            return new QueryRecorder();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer queryRecorderCustomizer(QueryRecorder queryRecorder) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, queryRecorder);
+        }
+
+    }
+
+    static class QueryRecorder implements StatementInspector {
+
+        private final List<String> statements = new ArrayList<>();
+
+        @Override
+        public synchronized String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+
+        synchronized void reset() {
+            statements.clear();
+        }
+
+        synchronized List<String> statements() {
+            return List.copyOf(statements);
+        }
+
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM employer");
+    }
+
+    @AfterAll
+    static void printReport() {
+        StringBuilder report = new StringBuilder("\nSQL statements per request\n");
+        REPORT.forEach((request, statements) -> {
+            report.append(String.format("  %-55s %d%n", request, statements.size()));
+            statements.forEach(sql -> report.append("      ").append(sql.replaceAll("\\s+", " ")).append('\n'));
+        });
+        System.out.println(report);
+    }
+
+    private Employer saveEmployer(String email) {
+        return employerRepository.save(Employer.builder()
+                .name("John Doe")
+                .email(email)
+                .position("Software Engineer")
+                .build());
+    }
+
+    private String employerJson(String name, String email) throws Exception {
+        return objectMapper.writeValueAsString(EmployerDTO.builder()
+                .name(name)
+                .email(email)
+                .position("Software Engineer")
+                .build());
+    }
+
+    private void assertQueryBudget(String request, int budget, RequestBuilder requestBuilder, ResultMatcher expectedStatus) throws Exception {
+        queryRecorder.reset();
+        mockMvc.perform(requestBuilder).andExpect(expectedStatus);
+        List<String> statements = queryRecorder.statements();
+        REPORT.put(request, statements);
+        if (statements.size() > budget) {
+            fail(request + " issued " + statements.size() + " SQL statements, budget is " + budget + ":\n  "
+                    + String.join("\n  ", statements));
+        }
+    }
+
+    @Test
+    void addEmployer_ShouldStayWithinQueryBudget() throws Exception {
+
+        //email uniqueness check + insert
+        assertQueryBudget("POST /api/employers/add", 2,
+                post("/api/employers/add").contentType(MediaType.APPLICATION_JSON).content(employerJson("John Doe", "john@example.com")),
+                status().isCreated());
+
+    }
+
+    @Test
+    void updateEmployer_WhenEmailIsUnchanged_ShouldStayWithinQueryBudget() throws Exception {
+
+        Employer employer = saveEmployer("john@example.com");
+
+        //find + update, open session in view keeps the entity managed so save() needs no extra select
+        assertQueryBudget("PUT /api/employers/update/{id} (same email)", 2,
+                put("/api/employers/update/" + employer.getId()).contentType(MediaType.APPLICATION_JSON)
+                        .content(employerJson("Danny Doe", "john@example.com")),
+                status().isOk());
+
+    }
+
+    @Test
+    void updateEmployer_WhenEmailChanges_ShouldStayWithinQueryBudget() throws Exception {
+
+        Employer employer = saveEmployer("john@example.com");
+
+        //find + email uniqueness check + update
+        assertQueryBudget("PUT /api/employers/update/{id} (new email)", 3,
+                put("/api/employers/update/" + employer.getId()).contentType(MediaType.APPLICATION_JSON)
+                        .content(employerJson("Danny Doe", "danny@example.com")),
+                status().isOk());
+
+    }
+
+    @Test
+    void deleteEmployer_ShouldStayWithinQueryBudget() throws Exception {
+
+        Employer employer = saveEmployer("john@example.com");
+
+        //find + delete, the select inside deleteById is served by the persistence context
+        assertQueryBudget("DELETE /api/employers/delete/{id}", 2,
+                delete("/api/employers/delete/" + employer.getId()),
+                status().isNoContent());
+
+    }
+
+    @Test
+    void deleteEmployer_WhenEmployerDoesNotExist_ShouldStayWithinQueryBudget() throws Exception {
+
+        assertQueryBudget("DELETE /api/employers/delete/{id} (missing)", 1,
+                delete("/api/employers/delete/999999"),
+                status().isNotFound());
+
+    }
+
+    @Test
+    void getEmployerById_ShouldStayWithinQueryBudget() throws Exception {
+
+        Employer employer = saveEmployer("john@example.com");
+
+        assertQueryBudget("GET /api/employers/{id}", 1,
+                get("/api/employers/" + employer.getId()),
+                status().isOk());
+
+    }
+
+    @Test
+    void getAllEmployers_ShouldStayWithinQueryBudget() throws Exception {
+
+        for (int i = 0; i < 30; i++) {
+            saveEmployer("john" + i + "@example.com");
+        }
+
+        //a single select no matter how many employers
+        assertQueryBudget("GET /api/employers/", 1,
+                get("/api/employers/"),
+                status().isOk());
+
+    }
+
+    @Test
+    void getEmployersPage_ShouldStayWithinQueryBudget() throws Exception {
+
+        for (int i = 0; i < 30; i++) {
+            saveEmployer("john" + i + "@example.com");
+        }
+
+        //page select + count
+        assertQueryBudget("GET /api/employers/page", 2,
+                get("/api/employers/page").param("page", "1").param("size", "10"),
+                status().isOk());
+
+    }
+
+}
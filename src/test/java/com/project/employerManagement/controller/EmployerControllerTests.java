@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
@@ -18,7 +19,9 @@ import org.springframework.test.web.servlet.ResultActions;
 
 import java.util.List;
 
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -69,6 +72,23 @@ public class EmployerControllerTests {
 
     }
 
+    @Test
+    void addEmployer_WhenStorageRejectsDuplicateEmail_ShouldReturnBadRequest() throws Exception {
+
+        EmployerDTO employerDTO = createEmployerDTO();
+
+        when(employerService.addEmployer(any(EmployerDTO.class)))
+                .thenThrow(new DuplicateKeyException(CustomMessages.employerAlreadyExists(employerDTO.getEmail())));
+
+        ResultActions response = mockMvc.perform(post("/api/employers/add")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employerDTO)))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(CustomMessages.employerAlreadyExists(employerDTO.getEmail())));
+
+    }
+
     @Test
     void updateEmployer_WhenEmployerExists_ShouldReturnUpdatedEmployerDTO() throws Exception {
         EmployerDTO employerDTO = createEmployerDTO();
@@ -134,7 +154,7 @@ public class EmployerControllerTests {
 
         EmployerDTO employerDTO = createEmployerDTO();
 
-        when(employerService.getEmployerById(eq(1L))).thenReturn(employerDTO);
+        when(employerService.getEmployerJsonById(eq(1L))).thenReturn(objectMapper.writeValueAsBytes(employerDTO));
 
         ResultActions response = mockMvc.perform(get("/api/employers/1")
                 .contentType(MediaType.APPLICATION_JSON))
@@ -145,19 +165,19 @@ public class EmployerControllerTests {
                 .andExpect(jsonPath("$.email").value(employerDTO.getEmail()))
                 .andExpect(jsonPath("$.position").value(employerDTO.getPosition()));
 
-        verify(employerService, times(1)).getEmployerById(eq(1L));
+        verify(employerService, times(1)).getEmployerJsonById(eq(1L));
 
     }
 
     @Test
     void getEmployerById_WhenEmployerDoesNotExist_ShouldReturnNotFound() throws Exception {
-        when(employerService.getEmployerById(1L)).thenThrow(new EntityNotFoundException(CustomMessages.EMPLOYER_NOT_FOUND));
+        when(employerService.getEmployerJsonById(1L)).thenThrow(new EntityNotFoundException(CustomMessages.EMPLOYER_NOT_FOUND));
 
         ResultActions response = mockMvc.perform(get("/api/employers/1"))
                 .andDo(print())
                 .andExpect(status().isNotFound());
 
-        verify(employerService, times(1)).getEmployerById(eq(1L));
+        verify(employerService, times(1)).getEmployerJsonById(eq(1L));
 
     }
 
@@ -168,14 +188,73 @@ public class EmployerControllerTests {
                 createEmployerDTO()
         );
 
-        when(employerService.getAllEmployers()).thenReturn(employers);
+        when(employerService.getAllEmployersJson()).thenReturn(objectMapper.writeValueAsBytes(employers));
 
         ResultActions response = mockMvc.perform(get("/api/employers/"))
                 .andExpect(status().isOk())
                 .andDo(print())
                 .andExpect(jsonPath("$.size()").value(employers.size()));
 
-        verify(employerService, times(1)).getAllEmployers();
+        verify(employerService, times(1)).getAllEmployersJson();
+    }
+
+    @Test
+    void getEmployersPage_ShouldReturnRequestedPageOfEmployersDTO() throws Exception {
+        List<EmployerDTO> employers = List.of(
+                createEmployerDTO(),
+                createEmployerDTO()
+        );
+
+        when(employerService.getEmployersPageJson(1, 2)).thenReturn(objectMapper.writeValueAsBytes(employers));
+
+        ResultActions response = mockMvc.perform(get("/api/employers/page")
+                        .param("page", "1")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.size()").value(employers.size()));
+
+        verify(employerService, times(1)).getEmployersPageJson(1, 2);
+    }
+
+    @Test
+    void getEmployersPage_WhenSizeExceedsMaximum_ShouldReturnBadRequest() throws Exception {
+
+        mockMvc.perform(get("/api/employers/page")
+                        .param("page", "0")
+                        .param("size", String.valueOf(EmployerController.MAX_PAGE_SIZE + 1)))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(startsWith("size: ")));
+
+        verify(employerService, never()).getEmployersPageJson(anyInt(), anyInt());
+
+    }
+
+    @Test
+    void getEmployersPage_WhenPageIsNegative_ShouldReturnBadRequest() throws Exception {
+
+        mockMvc.perform(get("/api/employers/page")
+                        .param("page", "-1")
+                        .param("size", "20"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(startsWith("page: ")));
+
+        verify(employerService, never()).getEmployersPageJson(anyInt(), anyInt());
+
+    }
+
+    @Test
+    void getEmployersPage_WhenSizeIsZero_ShouldReturnBadRequest() throws Exception {
+
+        mockMvc.perform(get("/api/employers/page")
+                        .param("size", "0"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+
+        verify(employerService, never()).getEmployersPageJson(anyInt(), anyInt());
+
     }
 
 }
@@ -0,0 +1,70 @@
+package com.project.employerManagement.controller;
+
+import com.project.employerManagement.warmup.RequestLatencyFilter;
+import com.project.employerManagement.warmup.WarmUp;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = ReadinessController.class)
+@AutoConfigureMockMvc(addFilters = false)
+public class ReadinessControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ApplicationAvailability applicationAvailability;
+
+    @MockitoBean
+    private WarmUp warmUp;
+
+    @MockitoBean
+    private RequestLatencyFilter requestLatencyFilter;
+
+    @Test
+    void getReadiness_WhenAcceptingTraffic_ShouldReturnOkWithWarmUpReport() throws Exception {
+
+        when(applicationAvailability.getReadinessState()).thenReturn(ReadinessState.ACCEPTING_TRAFFIC);
+        when(warmUp.getDuration()).thenReturn(Duration.ofMillis(850));
+        when(requestLatencyFilter.getRequestsMeasured()).thenReturn(1000);
+        when(requestLatencyFilter.percentile(0.99)).thenReturn(Duration.ofMillis(12));
+
+        mockMvc.perform(get("/api/readiness"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ready").value(true))
+                .andExpect(jsonPath("$.warmUpMillis").value(850))
+                .andExpect(jsonPath("$.requestsMeasured").value(1000))
+                .andExpect(jsonPath("$.p99Millis").value(12.0));
+
+    }
+
+    @Test
+    void getReadiness_WhenWarmingUp_ShouldReturnServiceUnavailable() throws Exception {
+
+        when(applicationAvailability.getReadinessState()).thenReturn(ReadinessState.REFUSING_TRAFFIC);
+        when(warmUp.getDuration()).thenReturn(null);
+
+        mockMvc.perform(get("/api/readiness"))
+                .andDo(print())
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.ready").value(false))
+                .andExpect(jsonPath("$.warmUpMillis").doesNotExist());
+
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.project.employerManagement.repository.memory;
+
+import com.project.employerManagement.EmployerManagementApplication;
+import com.project.employerManagement.model.dto.EmployerDTO;
+import com.project.employerManagement.service.EmployerService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// Runs the same EmployerService workload against JPA on an embedded H2 database and against the
+// in-memory storage engine. Not run by the test suite, start main() with the test classpath,
+// optionally passing the number of employers (default 20,000).
+public class InMemoryEmployerRepositoryBenchmark {
+
+    private static final int ROUNDS = 3;
+
+    private static final int READS_PER_EMPLOYER = 5;
+
+    public static void main(String[] args) throws IOException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        Path dataDirectory = Files.createTempDirectory("memory-storage-benchmark");
+        for (int round = 1; round <= ROUNDS; round++) {
+            run("jpa/h2  ", count,
+                    "spring.datasource.url=jdbc:h2:mem:benchmark" + round,
+                    "spring.datasource.driver-class-name=org.h2.Driver",
+                    "spring.jpa.show-sql=false");
+            run("memory  ", count,
+                    "spring.profiles.active=memory",
+                    "employer.memory.directory=" + dataDirectory.resolve("round" + round));
+        }
+    }
+
+    private static void run(String label, int count, String... properties) {
+        List<String> arguments = new ArrayList<>();
+        for (String property : properties) {
+            arguments.add("--" + property);
+        }
+        arguments.add("--employer.audit.enabled=false");
+        arguments.add("--logging.level.root=WARN");
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(EmployerManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(arguments.toArray(String[]::new))) {
+            EmployerService employerService = context.getBean(EmployerService.class);
+            List<Long> ids = new ArrayList<>(count);
+
+            long start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                ids.add(employerService.addEmployer(EmployerDTO.builder()
+                        .name("Employee Number " + i)
+                        .email("employee" + i + "@example.com")
+                        .position("Software Engineer")
+                        .build()).getId());
+            }
+            long adds = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int r = 0; r < READS_PER_EMPLOYER; r++) {
+                for (long id : ids) {
+                    employerService.getEmployerById(id);
+                }
+            }
+            long reads = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int page = 0; page < count / 20; page++) {
+                employerService.getEmployersPage(page, 20);
+            }
+            long pages = System.nanoTime() - start;
+
+            System.out.printf("%s add %,.0f/s | get by id %,.0f/s | page of 20 %,.0f/s%n", label,
+                    perSecond(count, adds), perSecond(count * READS_PER_EMPLOYER, reads), perSecond(count / 20, pages));
+        }
+    }
+
+    private static double perSecond(long operations, long nanos) {
+        return operations * 1_000_000_000.0 / nanos;
+    }
+
+}
@@ -0,0 +1,240 @@
+package com.project.employerManagement.repository.memory;
+
+import com.project.employerManagement.audit.AuditLog;
+import com.project.employerManagement.cache.EmployerJsonCache;
+import com.project.employerManagement.exception.EntityAlreadyExistsException;
+import com.project.employerManagement.model.dto.EmployerDTO;
+import com.project.employerManagement.model.entity.Employer;
+import com.project.employerManagement.service.EmployerService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.modelmapper.ModelMapper;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class InMemoryEmployerRepositoryTests {
+
+    @TempDir
+    private Path directory;
+
+    private InMemoryEmployerRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = open();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        repository.destroy();
+    }
+
+    private InMemoryEmployerRepository open() {
+        return new InMemoryEmployerRepository(directory, Duration.ZERO, false);
+    }
+
+    private Employer createEmployer(String email) {
+        return Employer.builder()
+                .name("John Doe")
+                .email(email)
+                .position("Software Engineer")
+                .build();
+    }
+
+    @Test
+    void save_WhenEmployerIsNew_ShouldAssignIdAndBeFoundByIdAndEmail() {
+
+        Employer saved = repository.save(createEmployer("john@example.com"));
+
+        assertEquals(1L, saved.getId());
+        assertEquals("john@example.com", repository.findById(saved.getId()).orElseThrow().getEmail());
+        assertEquals(saved.getId(), repository.findByEmail("john@example.com").orElseThrow().getId());
+        assertTrue(repository.existsById(saved.getId()));
+
+    }
+
+    @Test
+    void save_WhenEmailBelongsToAnotherEmployer_ShouldThrowException() {
+
+        repository.save(createEmployer("john@example.com"));
+        Employer other = repository.save(createEmployer("danny@example.com"));
+        other.setEmail("john@example.com");
+
+        assertThrows(DuplicateKeyException.class, () -> repository.save(createEmployer("john@example.com")));
+        assertThrows(DuplicateKeyException.class, () -> repository.save(other));
+        assertEquals(2, repository.size());
+
+    }
+
+    @Test
+    void save_WhenEmailDiffersOnlyInCase_ShouldConflict() {
+
+        repository.save(createEmployer("john@example.com"));
+
+        for (String variant : List.of("John@example.com", "JOHN@EXAMPLE.COM", "jOhN@eXaMpLe.CoM")) {
+            assertThrows(DuplicateKeyException.class, () -> repository.save(createEmployer(variant)));
+            assertEquals("john@example.com", repository.findByEmail(variant).orElseThrow().getEmail());
+        }
+        assertEquals(1, repository.size());
+
+    }
+
+    @Test
+    void save_WhenEmailIsNotAscii_ShouldConflictRegardlessOfCase() {
+
+        repository.save(createEmployer("jürgen@müller.de"));
+
+        assertThrows(DuplicateKeyException.class, () -> repository.save(createEmployer("JÜRGEN@MÜLLER.DE")));
+        assertEquals("jürgen@müller.de", repository.findByEmail("Jürgen@Müller.de").orElseThrow().getEmail());
+
+    }
+
+    @Test
+    void save_WhenOnlyTheCaseOfTheEmailChanges_ShouldKeepTheIndexEntry() throws IOException {
+
+        Employer saved = repository.save(createEmployer("john@example.com"));
+        saved.setEmail("John@example.com");
+
+        repository.save(saved);
+
+        assertEquals("John@example.com", repository.findByEmail("john@example.com").orElseThrow().getEmail());
+        assertEquals(saved.getId(), open().findByEmail("JOHN@example.com").orElseThrow().getId());
+
+    }
+
+    @Test
+    void saveAndDelete_WhenManyEmployersChange_ShouldMatchReferenceMap() {
+
+        Map<Long, String> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            if (!expected.isEmpty() && random.nextInt(3) == 0) {
+                long id = expected.keySet().iterator().next();
+                repository.deleteById(id);
+                expected.remove(id);
+            } else {
+                Employer saved = repository.save(createEmployer("john" + i + "@example.com"));
+                expected.put(saved.getId(), saved.getEmail());
+            }
+        }
+
+        assertEquals(expected.size(), repository.size());
+        expected.forEach((id, email) -> {
+            assertEquals(email, repository.findById(id).orElseThrow().getEmail());
+            assertEquals(id, repository.findByEmail(email).orElseThrow().getId());
+        });
+
+    }
+
+    @Test
+    void findAllPageable_ShouldReturnRequestedPageOrderedById() {
+
+        for (int i = 0; i < 50; i++) {
+            repository.save(createEmployer("john" + i + "@example.com"));
+        }
+
+        List<Employer> page = repository.findAll(PageRequest.of(2, 7, Sort.by("id"))).getContent();
+
+        assertEquals(List.of(15L, 16L, 17L, 18L, 19L, 20L, 21L), page.stream().map(Employer::getId).toList());
+
+    }
+
+    @Test
+    void reopen_ShouldRecoverFromWriteAheadLog() throws IOException {
+
+        Employer saved = repository.save(createEmployer("john@example.com"));
+        repository.save(createEmployer("danny@example.com"));
+        repository.deleteById(saved.getId());
+
+        InMemoryEmployerRepository reopened = open();
+
+        assertEquals(1, reopened.size());
+        assertTrue(reopened.findByEmail("danny@example.com").isPresent());
+        assertEquals(3L, reopened.save(createEmployer("john@example.com")).getId());
+
+    }
+
+    @Test
+    void reopen_ShouldRecoverFromSnapshotAndLaterWrites() throws IOException {
+
+        for (int i = 0; i < 1_000; i++) {
+            repository.save(createEmployer("john" + i + "@example.com"));
+        }
+        repository.snapshot();
+        repository.deleteById(1L);
+        repository.save(createEmployer("danny@example.com"));
+
+        InMemoryEmployerRepository reopened = open();
+
+        assertEquals(1_000, reopened.size());
+        assertFalse(reopened.existsById(1L));
+        assertEquals("Software Engineer", reopened.findByEmail("danny@example.com").orElseThrow().getPosition());
+
+    }
+
+    @Test
+    void reopen_WhenNewestEmployerWasDeletedBeforeSnapshot_ShouldNotReuseItsId() throws IOException {
+
+        repository.save(createEmployer("john@example.com"));
+        Employer newest = repository.save(createEmployer("danny@example.com"));
+        repository.deleteById(newest.getId());
+        repository.snapshot();
+
+        InMemoryEmployerRepository reopened = open();
+
+        assertEquals(1, reopened.size());
+        assertEquals(newest.getId() + 1, reopened.save(createEmployer("jane@example.com")).getId());
+
+    }
+
+    @Test
+    void reopen_WhenLogEndsWithTornWrite_ShouldKeepCompleteWrites() throws IOException {
+
+        repository.save(createEmployer("john@example.com"));
+        Path log = Files.list(directory).filter(path -> path.toString().endsWith(".log")).findFirst().orElseThrow();
+        Files.write(log, new byte[]{0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        InMemoryEmployerRepository reopened = open();
+
+        assertEquals(1, reopened.size());
+
+    }
+
+    @Test
+    void employerService_ShouldWorkUnchangedOnInMemoryStorage() {
+
+        EmployerService employerService = new EmployerService(repository, new ModelMapper(), mock(AuditLog.class), mock(EmployerJsonCache.class));
+        EmployerDTO employer = EmployerDTO.builder()
+                .name("John Doe")
+                .email("john@example.com")
+                .position("Software Engineer")
+                .build();
+
+        EmployerDTO added = employerService.addEmployer(employer);
+        employer.setName("Johnny Doe");
+        employerService.updateEmployer(employer, added.getId());
+
+        assertEquals("Johnny Doe", employerService.getEmployerById(added.getId()).getName());
+        assertThrows(EntityAlreadyExistsException.class, () -> employerService.addEmployer(employer));
+        employerService.deleteEmployer(added.getId());
+        assertTrue(employerService.getAllEmployers().isEmpty());
+
+    }
+
+}
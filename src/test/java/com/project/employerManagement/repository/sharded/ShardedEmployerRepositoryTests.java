@@ -0,0 +1,229 @@
+package com.project.employerManagement.repository.sharded;
+
+import com.project.employerManagement.config.CustomMessages;
+import com.project.employerManagement.model.entity.Employer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShardedEmployerRepositoryTests {
+
+    private List<DataSource> shards;
+
+    private ShardedEmployerRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        shards = createShards(3);
+        repository = new ShardedEmployerRepository(shards, new EmployerIdGenerator(0));
+    }
+
+    private static List<DataSource> createShards(int count) {
+        String prefix = UUID.randomUUID().toString();
+        return IntStream.range(0, count)
+                .mapToObj(i -> (DataSource) new DriverManagerDataSource("jdbc:h2:mem:" + prefix + "-" + i + ";DB_CLOSE_DELAY=-1"))
+                .toList();
+    }
+
+    private Employer createEmployer(String email) {
+        return Employer.builder()
+                .name("John Doe")
+                .email(email)
+                .position("Software Engineer")
+                .build();
+    }
+
+    private List<Employer> saveEmployers(int count) {
+        List<Employer> saved = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            saved.add(repository.save(createEmployer("john" + i + "@example.com")));
+        }
+        return saved;
+    }
+
+    private static long countRows(DataSource shard, String table) {
+        return new JdbcTemplate(shard).queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    @Test
+    void save_WhenEmployerIsNew_ShouldAssignIdAndBeFoundByIdAndEmail() {
+
+        Employer saved = repository.save(createEmployer("john@example.com"));
+
+        assertNotEquals(0, saved.getId());
+        assertEquals("john@example.com", repository.findById(saved.getId()).orElseThrow().getEmail());
+        assertEquals(saved.getId(), repository.findByEmail("john@example.com").orElseThrow().getId());
+        assertTrue(repository.existsById(saved.getId()));
+
+    }
+
+    @Test
+    void nextId_ShouldStayExactAsJavaScriptNumbers() {
+
+        EmployerIdGenerator generator = new EmployerIdGenerator(31);
+
+        long previous = 0;
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId();
+            assertTrue(id > previous);
+            //Number.MAX_SAFE_INTEGER
+            assertTrue(id <= (1L << 53) - 1);
+            previous = id;
+        }
+        assertThrows(IllegalArgumentException.class, () -> new EmployerIdGenerator(32));
+
+    }
+
+    @Test
+    void save_WhenEmailAlreadyClaimedOnAnotherEmployer_ShouldThrowAndNotStoreEmployer() {
+
+        repository.save(createEmployer("john@example.com"));
+
+        assertThrows(DuplicateKeyException.class, () -> repository.save(createEmployer("john@example.com")));
+        assertEquals(1, repository.findAll().size());
+
+    }
+
+    @Test
+    void save_WhenEmailDiffersOnlyInCase_ShouldConflictOnEveryShardLayout() {
+
+        //Enough variants that, hashed as typed, they would have landed on different shards
+        repository.save(createEmployer("john@example.com"));
+
+        for (String variant : List.of("John@example.com", "JOHN@EXAMPLE.COM", "john@Example.com", "jOhN@eXaMpLe.CoM")) {
+            assertThrows(DuplicateKeyException.class, () -> repository.save(createEmployer(variant)));
+            assertEquals("john@example.com", repository.findByEmail(variant).orElseThrow().getEmail());
+        }
+        assertEquals(1, repository.findAll().size());
+
+    }
+
+    @Test
+    void save_WhenOnlyTheCaseOfTheEmailChanges_ShouldKeepTheIndexEntry() {
+
+        Employer saved = repository.save(createEmployer("john@example.com"));
+        saved.setEmail("John@example.com");
+
+        repository.save(saved);
+
+        assertEquals("John@example.com", repository.findByEmail("john@example.com").orElseThrow().getEmail());
+
+    }
+
+    private void insertEmailClaim(String email, long employerId, Instant claimedAt) {
+        new JdbcTemplate(shards.get(new ShardRouter(shards.size()).shardFor(email))).update(
+                "INSERT INTO employer_email_index (email, employer_id, claimed_at) VALUES (?, ?, ?)",
+                email, employerId, Timestamp.from(claimedAt));
+    }
+
+    @Test
+    void save_WhenEmailIsHeldByAnOldOrphanedClaim_ShouldReclaimIt() {
+
+        //Left behind by a crash between claiming the email and inserting the employer
+        insertEmailClaim("john@example.com", 12345, Instant.now().minus(ShardedEmployerRepository.ORPHAN_GRACE).minusSeconds(1));
+
+        Employer saved = repository.save(createEmployer("john@example.com"));
+
+        assertEquals(saved.getId(), repository.findByEmail("john@example.com").orElseThrow().getId());
+
+    }
+
+    @Test
+    void save_WhenEmailIsHeldByARecentClaim_ShouldLeaveItToTheWriteInProgress() {
+
+        insertEmailClaim("john@example.com", 12345, Instant.now());
+
+        DuplicateKeyException exception = assertThrows(DuplicateKeyException.class,
+                () -> repository.save(createEmployer("john@example.com")));
+
+        assertEquals(CustomMessages.employerAlreadyExists("john@example.com"), exception.getMessage());
+        assertTrue(repository.findAll().isEmpty());
+
+    }
+
+    @Test
+    void save_WhenEmailChanges_ShouldMoveEmailIndexEntry() {
+
+        Employer saved = repository.save(createEmployer("john@example.com"));
+        saved.setEmail("danny@example.com");
+
+        repository.save(saved);
+
+        assertTrue(repository.findByEmail("john@example.com").isEmpty());
+        assertEquals(saved.getId(), repository.findByEmail("danny@example.com").orElseThrow().getId());
+        assertDoesNotThrow(() -> repository.save(createEmployer("john@example.com")));
+
+    }
+
+    @Test
+    void deleteById_WhenEmployerExists_ShouldRemoveEmployerAndReleaseEmail() {
+
+        Employer saved = repository.save(createEmployer("john@example.com"));
+
+        repository.deleteById(saved.getId());
+
+        assertFalse(repository.existsById(saved.getId()));
+        assertTrue(repository.findByEmail("john@example.com").isEmpty());
+
+    }
+
+    @Test
+    void findAll_WhenEmployersAreSpreadOverShards_ShouldReturnThemOrderedById() {
+
+        List<Employer> saved = saveEmployers(50);
+
+        List<Employer> result = repository.findAll();
+
+        assertEquals(saved.stream().map(Employer::getId).sorted().toList(), result.stream().map(Employer::getId).toList());
+        assertTrue(shards.stream().allMatch(shard -> countRows(shard, "employer") > 0));
+
+    }
+
+    @Test
+    void findAllPageable_ShouldMergeShardsIntoRequestedPage() {
+
+        List<Long> ids = saveEmployers(50).stream().map(Employer::getId).sorted().toList();
+
+        Page<Employer> page = repository.findAll(PageRequest.of(2, 7, Sort.by("id")));
+
+        assertEquals(ids.subList(14, 21), page.getContent().stream().map(Employer::getId).toList());
+        assertEquals(50, page.getTotalElements());
+
+    }
+
+    @Test
+    void rebalance_WhenShardIsAdded_ShouldKeepEveryEmployerReachable() {
+
+        List<Employer> saved = saveEmployers(50);
+        List<DataSource> target = new ArrayList<>(shards);
+        target.addAll(createShards(1));
+
+        ShardRebalancer.Report report = new ShardRebalancer().rebalance(shards, target);
+
+        ShardedEmployerRepository rebalanced = new ShardedEmployerRepository(target, new EmployerIdGenerator(0));
+        assertTrue(report.movedEmployers() > 0);
+        assertEquals(50, target.stream().mapToLong(shard -> countRows(shard, "employer")).sum());
+        assertEquals(50, target.stream().mapToLong(shard -> countRows(shard, "employer_email_index")).sum());
+        for (Employer employer : saved) {
+            assertTrue(rebalanced.findById(employer.getId()).isPresent());
+            assertEquals(employer.getId(), rebalanced.findByEmail(employer.getEmail()).orElseThrow().getId());
+        }
+
+    }
+
+}
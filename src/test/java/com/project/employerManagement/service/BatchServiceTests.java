@@ -0,0 +1,207 @@
+package com.project.employerManagement.service;
+
+import com.project.employerManagement.audit.AuditAction;
+import com.project.employerManagement.audit.AuditLog;
+import com.project.employerManagement.cache.EmployerJsonCache;
+import com.project.employerManagement.config.CustomMessages;
+import com.project.employerManagement.model.dto.BatchOperationDTO;
+import com.project.employerManagement.model.dto.BatchOperationResultDTO;
+import com.project.employerManagement.model.dto.BatchRequestDTO;
+import com.project.employerManagement.model.dto.BatchResultDTO;
+import com.project.employerManagement.model.dto.EmployerDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+public class BatchServiceTests {
+
+    private JdbcTemplate jdbcTemplate;
+
+    private AuditLog auditLog;
+
+    private EmployerJsonCache employerJsonCache;
+
+    private BatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE employer (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(255), "
+                + "email VARCHAR(255) NOT NULL UNIQUE, position VARCHAR(255))");
+        auditLog = mock(AuditLog.class);
+        employerJsonCache = mock(EmployerJsonCache.class);
+        batchService = new BatchService(jdbcTemplate, new DataSourceTransactionManager(dataSource), auditLog, employerJsonCache);
+    }
+
+    private long insertEmployer(String email) {
+        jdbcTemplate.update("INSERT INTO employer (name, email, position) VALUES ('John Doe', ?, 'Software Engineer')", email);
+        return jdbcTemplate.queryForObject("SELECT id FROM employer WHERE email = ?", Long.class, email);
+    }
+
+    private List<String> selectEmails() {
+        return jdbcTemplate.queryForList("SELECT email FROM employer ORDER BY id", String.class);
+    }
+
+    private EmployerDTO createEmployerDTO(String email) {
+        return EmployerDTO.builder()
+                .name("John Doe")
+                .email(email)
+                .position("Software Engineer")
+                .build();
+    }
+
+    private BatchOperationDTO add(String email) {
+        return new BatchOperationDTO(BatchOperationDTO.Type.ADD, null, createEmployerDTO(email));
+    }
+
+    private BatchOperationDTO update(long id, String email) {
+        return new BatchOperationDTO(BatchOperationDTO.Type.UPDATE, id, createEmployerDTO(email));
+    }
+
+    private BatchOperationDTO delete(long id) {
+        return new BatchOperationDTO(BatchOperationDTO.Type.DELETE, id, null);
+    }
+
+    private List<BatchOperationResultDTO.Status> statuses(BatchResultDTO result) {
+        return result.getResults().stream().map(BatchOperationResultDTO::getStatus).toList();
+    }
+
+    //-------------------------Testing executeBatch from BatchService-------------------------
+
+    @Test
+    void executeBatch_WhenAllOperationsAreValid_ShouldApplyThemAndReturnStoredEmployers() {
+
+        long john = insertEmployer("john@example.com");
+        long danny = insertEmployer("danny@example.com");
+
+        BatchResultDTO result = batchService.executeBatch(new BatchRequestDTO(BatchRequestDTO.Mode.ALL_OR_NOTHING, List.of(
+                add("anna@example.com"),
+                add("mark@example.com"),
+                update(john, "johnny@example.com"),
+                delete(danny)
+        )));
+
+        assertTrue(result.isCommitted());
+        assertEquals(List.of(BatchOperationResultDTO.Status.APPLIED, BatchOperationResultDTO.Status.APPLIED,
+                BatchOperationResultDTO.Status.APPLIED, BatchOperationResultDTO.Status.APPLIED), statuses(result));
+        assertEquals(List.of("johnny@example.com", "anna@example.com", "mark@example.com"), selectEmails());
+        long annaId = jdbcTemplate.queryForObject("SELECT id FROM employer WHERE email = 'anna@example.com'", Long.class);
+        assertEquals(annaId, result.getResults().get(0).getEmployer().getId());
+        assertNull(result.getResults().get(3).getEmployer());
+        verify(auditLog, times(2)).record(eq(AuditAction.ADD), anyLong(), isNull(), any(EmployerDTO.class));
+        verify(auditLog).record(eq(AuditAction.UPDATE), eq(john), argThat(before -> before.getEmail().equals("john@example.com")),
+                argThat(after -> after.getEmail().equals("johnny@example.com")));
+        verify(auditLog).record(eq(AuditAction.DELETE), eq(danny), any(EmployerDTO.class), isNull());
+        verify(employerJsonCache).evict(john);
+        verify(employerJsonCache).evict(danny);
+
+    }
+
+    @Test
+    void executeBatch_WhenEmailsDifferOnlyInCase_ShouldTreatThemAsTheSameEmail() {
+
+        long john = insertEmployer("john@example.com");
+
+        BatchResultDTO result = batchService.executeBatch(new BatchRequestDTO(BatchRequestDTO.Mode.ALL_OR_NOTHING, List.of(
+                update(john, "John@Example.com"),
+                add("ANNA@example.com"),
+                add("anna@example.com")
+        )));
+
+        assertFalse(result.isCommitted());
+        assertEquals(List.of(BatchOperationResultDTO.Status.ROLLED_BACK, BatchOperationResultDTO.Status.ROLLED_BACK,
+                BatchOperationResultDTO.Status.FAILED), statuses(result));
+        assertEquals(CustomMessages.employerAlreadyExists("anna@example.com"), result.getResults().get(2).getError());
+
+    }
+
+    @Test
+    void executeBatch_WhenOperationsDependOnEachOther_ShouldCheckThemInRequestOrder() {
+
+        long john = insertEmployer("john@example.com");
+
+        //The email is only free once the update before it released it
+        BatchResultDTO result = batchService.executeBatch(new BatchRequestDTO(BatchRequestDTO.Mode.ALL_OR_NOTHING, List.of(
+                update(john, "johnny@example.com"),
+                add("john@example.com"),
+                add("john@example.com")
+        )));
+
+        assertFalse(result.isCommitted());
+        assertEquals(List.of(BatchOperationResultDTO.Status.ROLLED_BACK, BatchOperationResultDTO.Status.ROLLED_BACK,
+                BatchOperationResultDTO.Status.FAILED), statuses(result));
+        assertEquals(CustomMessages.employerAlreadyExists("john@example.com"), result.getResults().get(2).getError());
+
+    }
+
+    @Test
+    void executeBatch_WhenAllOrNothingAndAnOperationFails_ShouldApplyNothing() {
+
+        long john = insertEmployer("john@example.com");
+
+        BatchResultDTO result = batchService.executeBatch(new BatchRequestDTO(BatchRequestDTO.Mode.ALL_OR_NOTHING, List.of(
+                add("anna@example.com"),
+                delete(john),
+                delete(john)
+        )));
+
+        assertFalse(result.isCommitted());
+        assertEquals(List.of(BatchOperationResultDTO.Status.ROLLED_BACK, BatchOperationResultDTO.Status.ROLLED_BACK,
+                BatchOperationResultDTO.Status.FAILED), statuses(result));
+        assertEquals(CustomMessages.EMPLOYER_NOT_FOUND, result.getResults().get(2).getError());
+        assertEquals(List.of("john@example.com"), selectEmails());
+        verifyNoInteractions(auditLog, employerJsonCache);
+
+    }
+
+    @Test
+    void executeBatch_WhenBestEffort_ShouldApplyEveryValidOperation() {
+
+        long john = insertEmployer("john@example.com");
+
+        BatchResultDTO result = batchService.executeBatch(new BatchRequestDTO(BatchRequestDTO.Mode.BEST_EFFORT, List.of(
+                add("john@example.com"),
+                update(john, "johnny@example.com"),
+                update(999, "anna@example.com"),
+                new BatchOperationDTO(BatchOperationDTO.Type.ADD, null, null),
+                add("anna@example.com")
+        )));
+
+        assertTrue(result.isCommitted());
+        assertEquals(List.of(BatchOperationResultDTO.Status.FAILED, BatchOperationResultDTO.Status.APPLIED,
+                BatchOperationResultDTO.Status.FAILED, BatchOperationResultDTO.Status.FAILED,
+                BatchOperationResultDTO.Status.APPLIED), statuses(result));
+        assertEquals(CustomMessages.BATCH_EMPLOYER_REQUIRED, result.getResults().get(3).getError());
+        assertEquals(List.of("johnny@example.com", "anna@example.com"), selectEmails());
+
+    }
+
+    @Test
+    void executeBatch_WhenBestEffortAndEveryOperationFails_ShouldNotCommit() {
+
+        BatchResultDTO result = batchService.executeBatch(new BatchRequestDTO(BatchRequestDTO.Mode.BEST_EFFORT, List.of(
+                delete(1),
+                new BatchOperationDTO(BatchOperationDTO.Type.UPDATE, null, createEmployerDTO("john@example.com"))
+        )));
+
+        assertFalse(result.isCommitted());
+        assertEquals(CustomMessages.BATCH_ID_REQUIRED, result.getResults().get(1).getError());
+        assertTrue(selectEmails().isEmpty());
+
+    }
+
+}
@@ -1,5 +1,8 @@
 package com.project.employerManagement.service;
 
+import com.project.employerManagement.audit.AuditAction;
+import com.project.employerManagement.audit.AuditLog;
+import com.project.employerManagement.cache.EmployerJsonCache;
 import com.project.employerManagement.config.CustomMessages;
 import com.project.employerManagement.exception.EntityAlreadyExistsException;
 import com.project.employerManagement.exception.EntityNotFoundException;
@@ -12,6 +15,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 import java.util.Optional;
@@ -28,6 +35,12 @@ public class EmployerServiceTests {
     @Mock
     private ModelMapper modelMapper;
 
+    @Mock
+    private AuditLog auditLog;
+
+    @Mock
+    private EmployerJsonCache employerJsonCache;
+
     @InjectMocks
     private EmployerService employerService;
 
@@ -69,6 +82,7 @@ public class EmployerServiceTests {
         assertNotNull(result);
         assertEquals(employerDTO.getEmail(), result.getEmail());
         verify(employerRepository, times(1)).save(employer);
+        verify(auditLog, times(1)).record(AuditAction.ADD, employerDTO.getId(), null, employerDTO);
 
     }
 
@@ -90,6 +104,7 @@ public class EmployerServiceTests {
 
         assertEquals(CustomMessages.employerAlreadyExists(employerDTO.getEmail()), exception.getMessage());
         verify(employerRepository, never()).save(any());
+        verifyNoInteractions(auditLog);
 
     }
 
@@ -114,6 +129,9 @@ public class EmployerServiceTests {
         assertEquals(employerDTO.getEmail(), result.getEmail());
         verify(employerRepository, times(1)).findById(1L);
         verify(employerRepository, times(1)).save(existingEmployer);
+        verify(auditLog, times(1)).record(eq(AuditAction.UPDATE), eq(1L), argThat(before ->
+                before.getEmail().equals("john@example.com")), eq(employerDTO));
+        verify(employerJsonCache, times(1)).evict(1L);
 
     }
 
@@ -166,11 +184,14 @@ public class EmployerServiceTests {
 
         Long employerId = 1L;
 
-        when(employerRepository.existsById(employerId)).thenReturn(true);
+        when(employerRepository.findById(employerId)).thenReturn(Optional.of(createEmployer()));
 
         employerService.deleteEmployer(employerId);
 
         verify(employerRepository, times(1)).deleteById(employerId);
+        verify(auditLog, times(1)).record(eq(AuditAction.DELETE), eq(employerId), argThat(before ->
+                before.getEmail().equals("john@example.com")), isNull());
+        verify(employerJsonCache, times(1)).evict(employerId);
 
     }
 
@@ -179,7 +200,7 @@ public class EmployerServiceTests {
 
         Long employerId = 1L;
 
-        when(employerRepository.existsById(employerId)).thenReturn(false);
+        when(employerRepository.findById(employerId)).thenReturn(Optional.empty());
 
         EntityNotFoundException exception = assertThrows(
                 EntityNotFoundException.class,
@@ -188,6 +209,7 @@ public class EmployerServiceTests {
 
         assertEquals(CustomMessages.EMPLOYER_NOT_FOUND, exception.getMessage());
         verify(employerRepository, never()).deleteById(employerId);
+        verifyNoInteractions(auditLog);
 
     }
 
@@ -252,4 +274,75 @@ public class EmployerServiceTests {
         verify(employerRepository, times(1)).findAll();
 
     }
-}
\ No newline at end of file
+
+    //-------------------------Testing getEmployersPage from EmployerService-------------------------
+
+    @Test
+    void getEmployersPage_ShouldRequestPageOrderedByIdAndReturnEmployerDTOs() {
+
+        List<Employer> employers = List.of(createEmployer(), createEmployer());
+
+        Pageable pageable = PageRequest.of(1, 2, Sort.by("id"));
+
+        when(employerRepository.findAll(pageable)).thenReturn(new PageImpl<>(employers, pageable, 4));
+
+        when(modelMapper.map(any(Employer.class), eq(EmployerDTO.class))).thenReturn(createEmployerDTO());
+
+        List<EmployerDTO> result = employerService.getEmployersPage(1, 2);
+
+        assertEquals(2, result.size());
+        verify(employerRepository, times(1)).findAll(pageable);
+
+    }
+
+    //-------------------------Testing JSON reads from EmployerService-------------------------
+
+    @Test
+    void getEmployerJsonById_WhenEmployerExists_ShouldReturnCachedJson() {
+
+        Employer employer = createEmployer();
+
+        byte[] json = "{}".getBytes();
+
+        when(employerRepository.findById(1L)).thenReturn(Optional.of(employer));
+
+        when(employerJsonCache.json(employer)).thenReturn(json);
+
+        assertSame(json, employerService.getEmployerJsonById(1L));
+        verifyNoInteractions(modelMapper);
+
+    }
+
+    @Test
+    void getEmployerJsonById_WhenEmployerDoesNotExist_ShouldThrowException() {
+
+        when(employerRepository.findById(1L)).thenReturn(Optional.empty());
+
+        EntityNotFoundException exception = assertThrows(
+                EntityNotFoundException.class,
+                () -> employerService.getEmployerJsonById(1L)
+        );
+
+        assertEquals(CustomMessages.EMPLOYER_NOT_FOUND, exception.getMessage());
+        verifyNoInteractions(employerJsonCache);
+
+    }
+
+    @Test
+    void getEmployersPageJson_ShouldAssembleRequestedPageFromCache() {
+
+        List<Employer> employers = List.of(createEmployer(), createEmployer());
+
+        Pageable pageable = PageRequest.of(1, 2, Sort.by("id"));
+
+        byte[] json = "[{},{}]".getBytes();
+
+        when(employerRepository.findAll(pageable)).thenReturn(new PageImpl<>(employers, pageable, 4));
+
+        when(employerJsonCache.jsonArray(employers)).thenReturn(json);
+
+        assertSame(json, employerService.getEmployersPageJson(1, 2));
+        verifyNoInteractions(modelMapper);
+
+    }
+}
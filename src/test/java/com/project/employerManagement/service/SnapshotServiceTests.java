@@ -0,0 +1,167 @@
+package com.project.employerManagement.service;
+
+import com.project.employerManagement.exception.EntityNotFoundException;
+import com.project.employerManagement.exception.InvalidSnapshotException;
+import com.project.employerManagement.model.dto.SnapshotDTO;
+import com.project.employerManagement.model.entity.Employer;
+import com.project.employerManagement.repository.EmployerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs against the schema Hibernate generates for Employer, identity column included
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:snapshot_service;DB_CLOSE_DELAY=-1",
+        "employer.snapshot.directory=target/snapshot-service",
+        "employer.snapshot.import-threads=4",
+        "employer.snapshot.import-batch-size=100"
+})
+public class SnapshotServiceTests {
+
+    private static final Path DIRECTORY = Path.of("target/snapshot-service");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EmployerRepository employerRepository;
+
+    @Autowired
+    private SnapshotService snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM employer");
+    }
+
+    private void insertEmployers(int count) {
+        jdbcTemplate.batchUpdate("INSERT INTO employer (name, email, position) VALUES (?, ?, ?)",
+                IntStream.range(0, count)
+                        .mapToObj(i -> new Object[]{"John Doe " + i, "john" + i + "@example.com", "Position " + i % 5})
+                        .toList());
+    }
+
+    private List<Map<String, Object>> selectEmployers() {
+        return jdbcTemplate.queryForList("SELECT id, name, email, position FROM employer ORDER BY id");
+    }
+
+    private int countStagingTables() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES "
+                + "WHERE UPPER(TABLE_NAME) LIKE 'EMPLOYER_IMPORT_%'", Integer.class);
+    }
+
+    //-------------------------Testing exportSnapshot from SnapshotService-------------------------
+
+    @Test
+    void exportSnapshot_ShouldWriteEveryEmployer() {
+
+        insertEmployers(5_000);
+
+        SnapshotDTO result = snapshotService.exportSnapshot();
+
+        assertEquals(5_000, result.getEmployers());
+        assertTrue(DIRECTORY.resolve(result.getName()).toFile().length() == result.getBytes());
+
+    }
+
+    //-------------------------Testing importSnapshot from SnapshotService-------------------------
+
+    @Test
+    void importSnapshot_WhenReplacing_ShouldRestoreExportedEmployers() {
+
+        insertEmployers(5_000);
+        List<Map<String, Object>> exported = selectEmployers();
+        SnapshotDTO snapshot = snapshotService.exportSnapshot();
+        jdbcTemplate.update("UPDATE employer SET name = 'changed'");
+
+        SnapshotDTO result = snapshotService.importSnapshot(snapshot.getName(), true);
+
+        assertEquals(5_000, result.getEmployers());
+        assertEquals(exported, selectEmployers());
+        assertEquals(0, countStagingTables());
+
+    }
+
+    @Test
+    void importSnapshot_IntoFreshSchema_ShouldGenerateIdsPastImportedOnes() {
+
+        insertEmployers(100);
+        SnapshotDTO snapshot = snapshotService.exportSnapshot();
+        jdbcTemplate.update("DELETE FROM employer");
+        jdbcTemplate.execute("ALTER TABLE employer ALTER COLUMN id RESTART WITH 1");
+        snapshotService.importSnapshot(snapshot.getName(), true);
+        long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM employer", Long.class);
+
+        Employer added = employerRepository.save(Employer.builder()
+                .name("Jane Doe")
+                .email("jane@example.com")
+                .position("Software Engineer")
+                .build());
+
+        assertTrue(added.getId() > maxId);
+        assertEquals(101, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employer", Integer.class));
+
+    }
+
+    @Test
+    void importSnapshot_WhenNewestEmployerWasDeletedBeforeExport_ShouldNotReuseItsId() {
+
+        insertEmployers(100);
+        long deletedId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM employer", Long.class);
+        jdbcTemplate.update("DELETE FROM employer WHERE id = ?", deletedId);
+        SnapshotDTO snapshot = snapshotService.exportSnapshot();
+        jdbcTemplate.update("DELETE FROM employer");
+        jdbcTemplate.execute("ALTER TABLE employer ALTER COLUMN id RESTART WITH 1");
+        snapshotService.importSnapshot(snapshot.getName(), true);
+
+        Employer added = employerRepository.save(Employer.builder()
+                .name("Jane Doe")
+                .email("jane@example.com")
+                .position("Software Engineer")
+                .build());
+
+        assertEquals(deletedId + 1, added.getId());
+
+    }
+
+    @Test
+    void importSnapshot_WhenCopyFails_ShouldLeaveEmployersUntouched() {
+
+        insertEmployers(1_000);
+        SnapshotDTO snapshot = snapshotService.exportSnapshot();
+        jdbcTemplate.update("UPDATE employer SET name = 'changed'");
+        List<Map<String, Object>> before = selectEmployers();
+
+        //Appending the same employers again violates the primary key and the email constraint
+        assertThrows(DataAccessException.class, () -> snapshotService.importSnapshot(snapshot.getName(), false));
+
+        assertEquals(before, selectEmployers());
+        assertEquals(0, countStagingTables());
+
+    }
+
+    @Test
+    void importSnapshot_WhenSnapshotDoesNotExist_ShouldThrowException() {
+
+        assertThrows(EntityNotFoundException.class, () -> snapshotService.importSnapshot("missing.snap", false));
+
+    }
+
+    @Test
+    void importSnapshot_WhenNameLeavesSnapshotDirectory_ShouldThrowException() {
+
+        assertThrows(InvalidSnapshotException.class, () -> snapshotService.importSnapshot("../employers.snap", false));
+
+    }
+
+}
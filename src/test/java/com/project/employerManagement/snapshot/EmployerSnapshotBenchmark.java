@@ -0,0 +1,91 @@
+package com.project.employerManagement.snapshot;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.employerManagement.model.entity.Employer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.IntStream;
+
+// Compares snapshot export/import with a Jackson JSON export of the same employers:
+// throughput of writing and of reading back, and file size. Not run by the test suite, start main()
+// with the test classpath, optionally passing the number of employers (default 1,000,000).
+public class EmployerSnapshotBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    private static final String[] POSITIONS = {
+            "Software Engineer", "Senior Software Engineer", "Product Manager", "Designer",
+            "Data Scientist", "Engineering Manager", "QA Engineer", "Support Specialist"
+    };
+
+    public static void main(String[] args) throws IOException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        List<Employer> employers = IntStream.range(0, count)
+                .mapToObj(i -> Employer.builder()
+                        .id(i + 1L)
+                        .name("Employee Number " + i)
+                        .email("employee" + i + "@example.com")
+                        .position(POSITIONS[i % POSITIONS.length])
+                        .build())
+                .toList();
+        ObjectMapper objectMapper = new ObjectMapper();
+        Path directory = Files.createTempDirectory("snapshot-benchmark");
+        Path snapshot = directory.resolve("employers.snap");
+        Path json = directory.resolve("employers.json");
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            Files.deleteIfExists(snapshot);
+            long start = System.nanoTime();
+            try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                EmployerSnapshotWriter writer = new EmployerSnapshotWriter(channel);
+                for (Employer employer : employers) {
+                    writer.write(employer);
+                }
+                writer.finish();
+            }
+            long snapshotWrite = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            try (OutputStream out = Files.newOutputStream(json)) {
+                objectMapper.writeValue(out, employers);
+            }
+            long jsonWrite = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            EmployerSnapshotReader reader = EmployerSnapshotReader.open(snapshot);
+            long read = IntStream.range(0, reader.blockCount()).parallel()
+                    .mapToLong(block -> reader.readBlock(block).size())
+                    .sum();
+            long snapshotRead = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            List<Employer> parsed = objectMapper.readValue(json.toFile(), new TypeReference<List<Employer>>() {
+            });
+            long jsonRead = System.nanoTime() - start;
+
+            if (read != count || parsed.size() != count) {
+                throw new IllegalStateException("Benchmark read back the wrong number of employers");
+            }
+            System.out.printf("round %d: write snapshot %,.0f/s json %,.0f/s | read snapshot %,.0f/s json %,.0f/s%n",
+                    round, perSecond(count, snapshotWrite), perSecond(count, jsonWrite),
+                    perSecond(count, snapshotRead), perSecond(count, jsonRead));
+        }
+        System.out.printf("size: snapshot %,d bytes, json %,d bytes (%.1f%%)%n",
+                Files.size(snapshot), Files.size(json), 100.0 * Files.size(snapshot) / Files.size(json));
+        Files.delete(snapshot);
+        Files.delete(json);
+        Files.delete(directory);
+    }
+
+    private static double perSecond(int count, long nanos) {
+        return count * 1_000_000_000.0 / nanos;
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.project.employerManagement.snapshot;
+
+import com.project.employerManagement.exception.InvalidSnapshotException;
+import com.project.employerManagement.model.entity.Employer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployerSnapshotTests {
+
+    @TempDir
+    private Path directory;
+
+    private static List<Employer> createEmployers(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Employer.builder()
+                        .id(i * 3L + 1)
+                        .name(i % 50 == 0 ? null : "John Doe " + i)
+                        .email("john" + i + "@example.com")
+                        .position(i % 7 == 0 ? null : "Position " + i % 5)
+                        .build())
+                .toList();
+    }
+
+    private Path writeSnapshot(List<Employer> employers) throws IOException {
+        Path path = directory.resolve("employers.snap");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            EmployerSnapshotWriter writer = new EmployerSnapshotWriter(channel);
+            for (Employer employer : employers) {
+                writer.write(employer);
+            }
+            long bytes = writer.finish();
+            assertEquals(channel.size(), bytes);
+        }
+        return path;
+    }
+
+    @Test
+    void readBlocks_ShouldReturnEveryEmployerWritten() throws IOException {
+
+        List<Employer> employers = createEmployers(20_000);
+
+        EmployerSnapshotReader reader = EmployerSnapshotReader.open(writeSnapshot(employers));
+
+        List<Employer> result = new ArrayList<>();
+        for (int block = 0; block < reader.blockCount(); block++) {
+            result.addAll(reader.readBlock(block));
+        }
+        assertTrue(reader.blockCount() > 1);
+        assertEquals(employers.size(), reader.employerCount());
+        assertEquals(employers.getLast().getId() + 1, reader.nextId());
+        assertEquals(employers.size(), result.size());
+        for (int i = 0; i < employers.size(); i++) {
+            assertEquals(employers.get(i).getId(), result.get(i).getId());
+            assertEquals(employers.get(i).getName(), result.get(i).getName());
+            assertEquals(employers.get(i).getEmail(), result.get(i).getEmail());
+            assertEquals(employers.get(i).getPosition(), result.get(i).getPosition());
+        }
+
+    }
+
+    @Test
+    void open_WhenSnapshotIsEmpty_ShouldHaveNoBlocks() throws IOException {
+
+        EmployerSnapshotReader reader = EmployerSnapshotReader.open(writeSnapshot(List.of()));
+
+        assertEquals(0, reader.blockCount());
+        assertEquals(0, reader.employerCount());
+
+    }
+
+    @Test
+    void verify_WhenBlockIsCorrupted_ShouldThrowException() throws IOException {
+
+        Path path = writeSnapshot(createEmployers(100));
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[40] ^= 0x1;
+        Files.write(path, bytes);
+
+        EmployerSnapshotReader reader = EmployerSnapshotReader.open(path);
+
+        assertThrows(InvalidSnapshotException.class, reader::verify);
+
+    }
+
+    @Test
+    void open_WhenFileIsNotSnapshot_ShouldThrowException() throws IOException {
+
+        Path path = directory.resolve("employers.json");
+        Files.writeString(path, "[{\"id\":1,\"name\":\"John Doe\"}]");
+
+        assertThrows(InvalidSnapshotException.class, () -> EmployerSnapshotReader.open(path));
+
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.project.employerManagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HashingTests {
+
+    @Test
+    void mix_ShouldMatchMurmurHash3Finalizer() {
+
+        assertEquals(0L, Hashing.mix(0));
+        assertEquals(0xb456bcfc34c2cb2cL, Hashing.mix(1));
+        assertEquals(0x810879608e4259ccL, Hashing.mix(42));
+        assertEquals(0x64b5720b4b825f21L, Hashing.mix(-1));
+
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.project.employerManagement.warmup;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestLatencyFilterTests {
+
+    private void perform(RequestLatencyFilter filter, String path) throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", path), new MockHttpServletResponse(), new MockFilterChain());
+    }
+
+    @Test
+    void doFilter_ShouldOnlyMeasureRequestsServedAfterReadiness() throws Exception {
+
+        RequestLatencyFilter filter = new RequestLatencyFilter(10);
+
+        perform(filter, "/api/employers/");
+        assertEquals(0, filter.getRequestsMeasured());
+
+        filter.onReadinessChange(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+        perform(filter, "/api/employers/");
+        perform(filter, RequestLatencyFilter.READINESS_PATH);
+
+        assertEquals(1, filter.getRequestsMeasured());
+        assertNotNull(filter.percentile(0.99));
+
+    }
+
+    @Test
+    void percentile_ShouldPickTheSampleAtThatRank() {
+
+        RequestLatencyFilter filter = new RequestLatencyFilter(200);
+
+        assertNull(filter.percentile(0.99));
+
+        for (int millis = 100; millis >= 1; millis--) {
+            filter.record(Duration.ofMillis(millis).toNanos());
+        }
+
+        assertEquals(Duration.ofMillis(99), filter.percentile(0.99));
+        assertEquals(Duration.ofMillis(50), filter.percentile(0.5));
+
+    }
+
+    @Test
+    void record_WhenSamplesAreFull_ShouldKeepTheFirstOnes() {
+
+        RequestLatencyFilter filter = new RequestLatencyFilter(2);
+
+        filter.record(1);
+        filter.record(2);
+        filter.record(1_000_000);
+
+        assertEquals(2, filter.getRequestsMeasured());
+        assertEquals(Duration.ofNanos(2), filter.percentile(0.99));
+
+    }
+
+}
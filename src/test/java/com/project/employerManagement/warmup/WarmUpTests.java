@@ -0,0 +1,200 @@
+package com.project.employerManagement.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.employerManagement.cache.EmployerJsonCache;
+import com.project.employerManagement.config.CustomMessages;
+import com.project.employerManagement.config.EmployerCacheProperties;
+import com.project.employerManagement.config.WarmUpProperties;
+import com.project.employerManagement.exception.EntityNotFoundException;
+import com.project.employerManagement.model.dto.EmployerDTO;
+import com.project.employerManagement.model.entity.Employer;
+import com.project.employerManagement.repository.sharded.ShardedEmployerRepository;
+import com.project.employerManagement.service.EmployerService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+public class WarmUpTests {
+
+    @TempDir
+    private Path directory;
+
+    private WarmUpProperties properties;
+
+    private EmployerService employerService;
+
+    private EmployerJsonCache employerJsonCache;
+
+    private ObjectProvider<ShardedEmployerRepository> shardedEmployerRepository;
+
+    private WarmUp warmUp;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        properties = new WarmUpProperties();
+        properties.setIterations(50);
+        properties.setReadIterations(3);
+        properties.setHotEmployersFile(directory.resolve("hot-employers.txt").toString());
+        employerService = mock(EmployerService.class);
+        ObjectMapper objectMapper = new ObjectMapper();
+        employerJsonCache = new EmployerJsonCache(objectMapper, new EmployerCacheProperties());
+        shardedEmployerRepository = mock(ObjectProvider.class);
+        warmUp = new WarmUp(properties, employerService, employerJsonCache, new ModelMapper(), objectMapper,
+                mock(ObjectProvider.class), shardedEmployerRepository, mock(WebApplicationContext.class));
+    }
+
+    private Employer createEmployer(long id) {
+        return Employer.builder()
+                .id(id)
+                .name("John Doe")
+                .email("john" + id + "@example.com")
+                .position("Software Engineer")
+                .build();
+    }
+
+    @Test
+    void run_ShouldExerciseReadPathsAndReportDuration() {
+
+        when(employerService.getEmployersPage(anyInt(), anyInt()))
+                .thenReturn(List.of(EmployerDTO.builder().id(7).email("john@example.com").build()));
+
+        warmUp.run(new DefaultApplicationArguments());
+
+        assertNotNull(warmUp.getDuration());
+        verify(employerService, times(3)).getEmployersPageJson(0, 20);
+        verify(employerService, times(3)).getEmployerJsonById(7L);
+        //The synthetic employer must not stay in the cache
+        assertEquals(0, employerJsonCache.size());
+
+    }
+
+    @Test
+    void run_WhenPreloadIsEnabled_ShouldReloadEmployersCachedAtShutdown() throws Exception {
+
+        properties.setPreloadEmployers(10);
+        employerJsonCache.json(createEmployer(1));
+        employerJsonCache.json(createEmployer(2));
+
+        warmUp.destroy();
+
+        assertEquals(2, Files.readAllLines(Path.of(properties.getHotEmployersFile())).size());
+
+        when(employerService.getEmployerJsonById(2L)).thenThrow(new EntityNotFoundException(CustomMessages.EMPLOYER_NOT_FOUND));
+
+        warmUp.run(new DefaultApplicationArguments());
+
+        verify(employerService, times(1)).getEmployerJsonById(1L);
+        verify(employerService, times(1)).getEmployerJsonById(2L);
+        assertEquals(1, warmUp.getPreloadedEmployers());
+
+    }
+
+    @Test
+    void destroy_ShouldKeepMostReadEmployersFirst() throws Exception {
+
+        properties.setPreloadEmployers(2);
+        for (long id = 1; id <= 5; id++) {
+            for (int read = 0; read < id; read++) {
+                employerJsonCache.json(createEmployer(id));
+            }
+        }
+
+        warmUp.destroy();
+
+        assertEquals(List.of("5", "4"), Files.readAllLines(Path.of(properties.getHotEmployersFile())));
+
+    }
+
+    @Test
+    void run_WhenSharded_ShouldPrimeEveryShardPoolUpToItsMaximumSize() throws Exception {
+
+        properties.setPoolConnections(10);
+        try (HikariDataSource first = spy(createPool(2)); HikariDataSource second = spy(createPool(3))) {
+            ShardedEmployerRepository repository = mock(ShardedEmployerRepository.class);
+            when(repository.getDataSources()).thenReturn(List.of(first, second));
+            when(shardedEmployerRepository.getIfAvailable()).thenReturn(repository);
+
+            warmUp.run(new DefaultApplicationArguments());
+
+            verify(first, times(2)).getConnection();
+            verify(second, times(3)).getConnection();
+            assertEquals(2, first.getHikariPoolMXBean().getTotalConnections());
+            assertEquals(3, second.getHikariPoolMXBean().getTotalConnections());
+        }
+
+    }
+
+    private HikariDataSource createPool(int maximumPoolSize) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:" + UUID.randomUUID());
+        pool.setMaximumPoolSize(maximumPoolSize);
+        //Fails the test quickly instead of waiting 30 seconds if the warm-up asks for too many
+        pool.setConnectionTimeout(1000);
+        return pool;
+    }
+
+    @Test
+    void destroy_AfterWarmUp_ShouldNotRankWarmUpReadsAsHot() throws Exception {
+
+        properties.setPreloadEmployers(1);
+        when(employerService.getEmployersPage(anyInt(), anyInt()))
+                .thenReturn(List.of(EmployerDTO.builder().id(7).email("john7@example.com").build()));
+        when(employerService.getEmployerJsonById(7L)).thenAnswer(invocation -> employerJsonCache.json(createEmployer(7)));
+
+        warmUp.run(new DefaultApplicationArguments());
+        employerJsonCache.json(createEmployer(9));
+        warmUp.destroy();
+
+        assertEquals(List.of("9"), Files.readAllLines(Path.of(properties.getHotEmployersFile())));
+
+    }
+
+    @Test
+    void runAndDestroy_WithoutWebServer_ShouldSkipWarmUpAndKeepHotEmployersFile() throws Exception {
+
+        properties.setPreloadEmployers(10);
+        Path file = Path.of(properties.getHotEmployersFile());
+        Files.write(file, List.of("1", "2"));
+        employerJsonCache.json(createEmployer(3));
+        WarmUp toolRun = new WarmUp(properties, employerService, employerJsonCache, new ModelMapper(), new ObjectMapper(),
+                mock(ObjectProvider.class), shardedEmployerRepository, new GenericApplicationContext());
+
+        toolRun.run(new DefaultApplicationArguments());
+        toolRun.destroy();
+
+        assertNull(toolRun.getDuration());
+        verifyNoInteractions(employerService);
+        assertEquals(List.of("1", "2"), Files.readAllLines(file));
+
+    }
+
+    @Test
+    void run_WhenDisabled_ShouldNotTouchTheService() {
+
+        properties.setEnabled(false);
+
+        warmUp.run(new DefaultApplicationArguments());
+
+        assertNull(warmUp.getDuration());
+        verifyNoInteractions(employerService);
+
+    }
+
+}